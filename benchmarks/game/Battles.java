@@ -0,0 +1,78 @@
+package game;
+
+import java.awt.Point;
+import java.util.Random;
+
+/**
+ * Sets up the games the benchmarks run on.
+ *
+ * @author Kevin Cuellar
+ * @version 10/18/2026
+ */
+final class Battles {
+
+	private Battles() {
+	}
+
+	/**
+	 * Sets up a headless game with count enemies spread along the path, count / 20 towers
+	 * placed wherever they are allowed, and count / 2 crystals already landed on the path.
+	 *
+	 * @param count the amount of enemies
+	 * @return the Control of the game
+	 */
+	static Control create(int count) {
+		Control control = new Control(true);
+		State state = control.getState();
+		Random random = new Random(count);
+		state.setClock(new VirtualClock(Control.SECONDS_PER_TICK));
+		state.setMoney(Integer.MAX_VALUE / 2);
+		state.setLives(Integer.MAX_VALUE / 2);
+
+		state.startFrame();
+		EnemyPool enemies = control.getEnemies();
+		for(int i = 0; i < count; i++) {
+			EnemyType type = (i % 5 == 0) ? EnemyType.SCARGO : EnemyType.SNAIL;
+			int slot = enemies.spawn(type, type.movementSpeed);
+			enemies.setProgress(slot, random.nextDouble() * 0.9);
+		}
+		for(int i = 0; i < count / 2; i++) {
+			Point aim = control.getPath().convertToCoordinates(random.nextDouble());
+			SaltCrystals sc = SaltCrystals.obtain(state, control, random.nextInt(600), random.nextInt(600), aim.x, aim.y);
+			for(int j = 0; j < 5; j++)
+				sc.update(0); //land the crystal so it is in the grid
+			state.addGameObject(sc);
+		}
+		int towers = 0;
+		for(int tries = 0; towers < count / 20 && tries < count * 10; tries++) {
+			int x = 25 + random.nextInt(550);
+			int y = 25 + random.nextInt(550);
+			Tower t = (towers % 2 == 0) ? new SaltTower(state, control, x, y) : new SaltCatapult(state, control, x, y);
+			t.onClick(x, y); //place it, expires itself if it is on the path
+			if(!t.isExpired()) {
+				state.addGameObject(t);
+				towers++;
+			} else {
+				control.getHitGrid().remove(t); //never reaches the State, so nothing else takes it out
+			}
+		}
+		state.finishFrame();
+		return control;
+	}
+
+	/**
+	 * Returns count random positions, seeded by count so every run gets the same ones.
+	 *
+	 * @param count the amount of positions
+	 * @param min the lowest value of a coordinate
+	 * @param range how many values a coordinate can take
+	 * @return the x coordinates followed by the y coordinates
+	 */
+	static int[] randomPoints(int count, int min, int range) {
+		Random random = new Random(count);
+		int[] points = new int[count * 2];
+		for(int i = 0; i < points.length; i++)
+			points[i] = min + random.nextInt(range);
+		return points;
+	}
+}
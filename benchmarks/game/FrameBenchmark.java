@@ -0,0 +1,122 @@
+package game;
+
+import java.awt.Graphics;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of making and drawing a frame: keeping the State's list of GameObjects,
+ * recording and publishing a RenderList, and painting it.
+ *
+ * @author Kevin Cuellar
+ * @version 10/18/2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "-Djava.awt.headless=true")
+public class FrameBenchmark {
+
+	/**
+	 * A State holding count GameObjects.
+	 */
+	@org.openjdk.jmh.annotations.State(Scope.Thread) //not game.State
+	public static class Objects {
+
+		@Param({"100", "1000", "5000"})
+		public int count;
+
+		State state;
+		Control control;
+		GameObject[] objects;
+		int next;
+
+		/**
+		 * Adds the GameObjects.
+		 */
+		@Setup
+		public void setUp() {
+			control = new Control(true);
+			state = control.getState();
+			objects = new GameObject[count];
+			state.startFrame();
+			for(int i = 0; i < count; i++) {
+				objects[i] = new Background(state, control);
+				state.addGameObject(objects[i]);
+			}
+			state.finishFrame();
+		}
+	}
+
+	/**
+	 * A game with count enemies, count / 20 towers and count / 2 crystals, and a View
+	 * that paints it into an offscreen image.
+	 */
+	@org.openjdk.jmh.annotations.State(Scope.Thread) //not game.State
+	public static class Battle {
+
+		@Param({"100", "1000", "5000"})
+		public int count;
+
+		Control control;
+		View view;
+		BufferedImage image = new BufferedImage(800, 600, BufferedImage.TYPE_INT_ARGB);
+
+		/**
+		 * Sets up the game and loads its sprites.
+		 */
+		@Setup
+		public void setUp() {
+			control = Battles.create(count);
+			control.publishFrame(); //loads the sprites
+			view = new View(control, control.getFrames());
+			view.repaintDirty(); //picks up the frame
+		}
+	}
+
+	/**
+	 * One startFrame and finishFrame, where one in twenty of the GameObjects expires
+	 * and is replaced.
+	 */
+	@Benchmark
+	public void stateFrame(Objects o) {
+		o.state.startFrame();
+		for(int i = 0; i < o.count / 20 + 1; i++) {
+			o.next = (o.next + 1) % o.count;
+			o.objects[o.next].isExpired = true;
+			o.objects[o.next] = new Background(o.state, o.control);
+			o.state.addGameObject(o.objects[o.next]);
+		}
+		o.state.finishFrame();
+	}
+
+	/**
+	 * Records and publishes one frame.
+	 */
+	@Benchmark
+	public void publishFrame(Battle b) {
+		b.control.publishFrame();
+	}
+
+	/**
+	 * One View.paint of the newest frame.
+	 */
+	@Benchmark
+	public void paint(Battle b) {
+		Graphics g = b.image.getGraphics();
+		b.view.paint(g);
+		g.dispose();
+	}
+}
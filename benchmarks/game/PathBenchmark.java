@@ -0,0 +1,95 @@
+package game;
+
+import java.awt.Point;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import path.Path;
+
+/**
+ * Benchmarks of the path queries towers and enemies make every tick. Every benchmark
+ * answers count queries per operation, so divide the time by count for one query.
+ *
+ * @author Kevin Cuellar
+ * @version 10/18/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "-Djava.awt.headless=true")
+public class PathBenchmark {
+
+	@Param({"100", "1000", "5000"})
+	public int count;
+
+	private Control control;
+	private Path path;
+	private int[] fieldPoints; //count x coordinates then count y coordinates on the field
+	private int[] mapPoints; //the same on the whole window and a bit outside of it
+	private Point p = new Point();
+
+	/**
+	 * Loads the game's path and makes the random points to query.
+	 */
+	@Setup
+	public void setUp() {
+		control = new Control(true);
+		path = control.getPath();
+		fieldPoints = Battles.randomPoints(count, 0, 600);
+		mapPoints = Battles.randomPoints(count, -10, 820);
+	}
+
+	/**
+	 * Converts count evenly spread out percentages to coordinates on the path.
+	 */
+	@Benchmark
+	public void convertToCoordinates(Blackhole bh) {
+		for(int i = 0; i < count; i++) {
+			path.convertToCoordinates(i / (double)count, p);
+			bh.consume(p.x);
+		}
+	}
+
+	/**
+	 * Finds the closest point of the path to count random points on the field.
+	 */
+	@Benchmark
+	public void closestPoint(Blackhole bh) {
+		for(int i = 0; i < count; i++)
+			bh.consume(path.closestPoint(fieldPoints[i], fieldPoints[count + i]));
+	}
+
+	/**
+	 * Finds the closest point anywhere on the path to count random points on the field.
+	 */
+	@Benchmark
+	public void closestPointOnPath(Blackhole bh) {
+		for(int i = 0; i < count; i++) {
+			bh.consume(path.closestPointOnPath(fieldPoints[i], fieldPoints[count + i], p));
+			bh.consume(p.x);
+		}
+	}
+
+	/**
+	 * Checks count random points on the map (and a bit outside of it) against the path mask.
+	 */
+	@Benchmark
+	public void isNearPath(Blackhole bh) {
+		for(int i = 0; i < count; i++)
+			bh.consume(control.isNearPath(mapPoints[i], mapPoints[count + i]));
+	}
+}
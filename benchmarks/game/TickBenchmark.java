@@ -0,0 +1,71 @@
+package game;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks one full tick of a game with count enemies, count / 20 towers and count / 2
+ * crystals. Enemies leave the map as the game runs, so every iteration gets a fresh game
+ * and runs a batch of TICKS ticks on it; the reported time is for the whole batch.
+ *
+ * @author Kevin Cuellar
+ * @version 10/18/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 10, batchSize = TickBenchmark.TICKS)
+@Measurement(iterations = 20, batchSize = TickBenchmark.TICKS)
+@Fork(value = 2, jvmArgsAppend = "-Djava.awt.headless=true")
+public class TickBenchmark {
+
+	static final int TICKS = 200;
+
+	@Param({"100", "1000", "5000"})
+	public int count;
+
+	@Param({"1", "0"})
+	public int threads; //to update GameObjects with, 0 for every available core
+
+	private Control control;
+
+	/**
+	 * Sets up a fresh game.
+	 */
+	@Setup(Level.Iteration)
+	public void setUp() {
+		control = Battles.create(count);
+		int updateThreads = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+		if(updateThreads > 1)
+			control.setUpdateThreads(updateThreads);
+	}
+
+	/**
+	 * Stops the update threads of the game, if there are any.
+	 */
+	@TearDown(Level.Iteration)
+	public void tearDown() {
+		control.setUpdateThreads(1);
+	}
+
+	/**
+	 * Runs one tick.
+	 */
+	@Benchmark
+	public void tick() {
+		control.tick();
+	}
+}
@@ -0,0 +1,151 @@
+package game;
+
+import java.awt.image.BufferedImage;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.imageio.ImageIO;
+
+/**
+ * Decodes every image of the game when it starts, on a pool of threads, so nothing is
+ * decoded on the Swing thread the first time it is drawn (like the first S-Cargo of a game).
+ * Which images there are is read from a manifest, resources/assets.txt, with one file name
+ * per line, anything after a # is ignored.
+ *
+ * Images are decoded into a concurrent map by all threads at once, then handed out
+ * as a map that cannot be modified, so it can be read from any thread without locking.
+ *
+ * @author Kevin Cuellar
+ * @version 10/18/2026
+ */
+public class AssetLoader {
+
+	public static final String MANIFEST = "resources/assets.txt";
+
+	/**
+	 * Told about every image as soon as it is decoded, from the thread that decoded it.
+	 */
+	public interface Progress {
+
+		/**
+		 * Called once an image is decoded.
+		 *
+		 * @param filename the file name of the image inside the "resources" folder
+		 * @param loaded how many images are decoded, this one included
+		 * @param total how many images are being decoded
+		 */
+		void loaded(String filename, int loaded, int total);
+	}
+
+	/**
+	 * Reads the file names of a manifest.
+	 *
+	 * @param in the manifest, not closed
+	 * @return the file names in the order they are listed, without duplicates
+	 * @throws IOException if the manifest could not be read
+	 */
+	public static List<String> readManifest(InputStream in) throws IOException {
+		BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+		List<String> files = new ArrayList<>();
+		int lineNumber = 0;
+		String line;
+		while((line = reader.readLine()) != null) {
+			lineNumber++;
+			int comment = line.indexOf('#');
+			if(comment >= 0)
+				line = line.substring(0, comment);
+			line = line.trim();
+			if(line.isEmpty())
+				continue;
+			if(line.contains(" ") || line.contains("\t"))
+				throw new IOException("Line " + lineNumber + " of the asset manifest is not understood: " + line);
+			if(!files.contains(line))
+				files.add(line);
+		}
+		return files;
+	}
+
+	/**
+	 * Decodes images from the "resources" folder on a pool of threads and waits for all of them.
+	 *
+	 * @param files the file names of the images inside the "resources" folder
+	 * @param threads how many threads to decode with, at most one per image is used
+	 * @param progress told about every decoded image, may be null
+	 * @return every image by file name, cannot be modified
+	 * @throws IOException if an image could not be found or decoded, the others are still waited for
+	 */
+	public static Map<String, BufferedImage> preload(List<String> files, int threads, Progress progress) throws IOException {
+		if(files.isEmpty())
+			return Collections.emptyMap();
+
+		Map<String, BufferedImage> images = new ConcurrentHashMap<>();
+		AtomicInteger loaded = new AtomicInteger();
+		ExecutorService pool = Executors.newFixedThreadPool(Math.max(1, Math.min(threads, files.size())), r -> {
+			Thread t = new Thread(r, "asset-loader");
+			t.setDaemon(true);
+			return t;
+		});
+		try {
+			List<Future<?>> decoding = new ArrayList<>(files.size());
+			for(String filename : files) {
+				decoding.add(pool.submit(() -> {
+					images.put(filename, decode(filename));
+					int done = loaded.incrementAndGet();
+					if(progress != null)
+						progress.loaded(filename, done, files.size());
+					return null;
+				}));
+			}
+
+			IOException failure = null;
+			for(Future<?> f : decoding) {
+				try {
+					f.get();
+				} catch(ExecutionException e) {
+					if(failure == null)
+						failure = e.getCause() instanceof IOException ? (IOException)e.getCause() : new IOException(e.getCause());
+				} catch(InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new IOException("Interrupted while loading images", e);
+				}
+			}
+			if(failure != null)
+				throw failure;
+		} finally {
+			pool.shutdown();
+		}
+		return Collections.unmodifiableMap(new HashMap<>(images));
+	}
+
+	/**
+	 * Decodes one image from the "resources" folder.
+	 *
+	 * @param filename the file name of the image inside the "resources" folder
+	 * @return the decoded image
+	 * @throws IOException if the image could not be found or decoded
+	 */
+	public static BufferedImage decode(String filename) throws IOException {
+		try(InputStream imageStream = AssetLoader.class.getClassLoader().getResourceAsStream("resources/" + filename)) {
+			if(imageStream == null)
+				throw new IOException("Could not find resources/" + filename);
+			BufferedImage image = ImageIO.read(imageStream);
+			if(image == null)
+				throw new IOException("Could not decode resources/" + filename);
+			return image;
+		}
+	}
+}
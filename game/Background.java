@@ -1,6 +1,5 @@
 package game;
 
-import java.awt.Graphics;
 
 /**
  * Background is a static image that determines what "map" 
@@ -33,14 +32,24 @@ public class Background extends GameObject{
 		//nothing --- the background doesn't update
 	}
 
+    /**
+     * Does nothing --- the background is drawn once into the View's static layer
+     * 
+     * @param list the RenderList to record into
+     */
+	@Override
+	public void draw(RenderList list) {
+		//nothing --- see drawStatic
+	}
+
     /**
      * Draws the background image onto the screen.
      * 
-     * @param g the Graphics object to draw to
+     * @param list the RenderList to record into
      */
 	@Override
-	public void draw(Graphics g) {
-		g.drawImage(control.getImage("path_2.jpg"), 0, 0, null); //draw background
+	public void drawStatic(RenderList list) {
+		list.drawImage(control.getSprite("path_2.jpg"), 0, 0); //draw background
 	}
 
 }
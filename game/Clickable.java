@@ -14,6 +14,8 @@ public abstract class Clickable extends GameObject {
 	
 	protected boolean isClickable;
 	protected Bounds bounds;
+	int[] hitCells; //first column, first row, last column and last row in the HitGrid, null when not in it
+	long hitOrder; //when this was added to the HitGrid, later ones are on top of equal priorities
 	
 	/**
 	* Constructor that initiates this Clickable.
@@ -28,6 +30,27 @@ public abstract class Clickable extends GameObject {
 		super(state, control, drawPriority);
 		this.bounds = bounds;
 		this.isClickable = isClickable;
+		control.getHitGrid().add(this);
+		markDirty();
+	}
+	
+	/**
+	 * Marks where this Clickable is drawn as needing to be drawn again.
+	 * Called when it is created and when it is removed, override if it is drawn
+	 * outside of its bounding box.
+	 */
+	protected void markDirty() {
+		state.markDirty(bounds.posX, bounds.posY, bounds.width + 1, bounds.height + 1);
+	}
+	
+	/**
+	 * Marks where this Clickable was drawn, so it disappears from the screen,
+	 * and takes it out of the HitGrid.
+	 */
+	@Override
+	protected void onRemoved() {
+		control.getHitGrid().remove(this);
+		markDirty();
 	}
 
 	/**
@@ -52,14 +75,22 @@ public abstract class Clickable extends GameObject {
 	 */
 	public boolean consumeClick(int mouseX, int mouseY) {
 		//check if mouse is over bounding box and that game is not over
-		if(!isClickable)
-			return false;
-		if(mouseX < bounds.posX || mouseX > bounds.posX + bounds.width)
-			return false;
-		if(mouseY < bounds.posY || mouseY > bounds.posY + bounds.height)
+		if(!isClickable || !contains(mouseX, mouseY))
 			return false;
 		
 		//object was clickable and click was within bounding box
 		return onClick(mouseX, mouseY);
 	}
+	
+	/**
+	 * Returns whether a point is within the bounding box, edges included.
+	 * 
+	 * @param x the x position of the point
+	 * @param y the y position of the point
+	 * @return whether the point is within the bounding box
+	 */
+	boolean contains(int x, int y) {
+		return x >= bounds.posX && x <= bounds.posX + bounds.width
+				&& y >= bounds.posY && y <= bounds.posY + bounds.height;
+	}
 }
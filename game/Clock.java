@@ -0,0 +1,58 @@
+package game;
+
+/**
+ * A Clock decides how much time passes in the game every tick. 
+ * State asks its Clock for the time, so swapping the Clock changes whether the game
+ * follows the wall clock, runs in fixed steps, or runs as fast as it can.
+ * 
+ * @author Kevin Cuellar
+ * @version 10/18/2026
+ */
+public interface Clock {
+	
+	/**
+	 * Returns how many ticks should be run right now. Called once every time the
+	 * game gets a chance to run (every Timer event), the ticks are then run back to back.
+	 * 
+	 * @return how many ticks should be run right now, can be 0
+	 */
+	public int ticksDue();
+	
+	/**
+	 * Moves the clock forward by one tick. Called at the start of every frame.
+	 */
+	public void advance();
+	
+	/**
+	 * Returns the seconds the last tick lasted.
+	 * 
+	 * @return the seconds the last tick lasted
+	 */
+	public double getElapsedTime();
+	
+	/**
+	 * Returns the seconds of game time since the game started.
+	 * 
+	 * @return the seconds of game time since the game started
+	 */
+	public double getSecondsSinceGameStart();
+	
+	/**
+	 * Moves the game time to a point, like when a saved game is loaded. Ticks go on from there.
+	 * 
+	 * @param seconds the seconds of game time since the game started
+	 */
+	public void setSecondsSinceGameStart(double seconds);
+	
+	/**
+	 * Returns how far the real time is past the last tick, as a fraction of a tick from 0 to 1.
+	 * Drawing moving things this far between where they were before and after the last
+	 * tick keeps them moving smoothly when the screen is drawn more often than the game ticks.
+	 * 1 (draw where things are now) by default.
+	 * 
+	 * @return how far the real time is past the last tick
+	 */
+	public default double getStepProgress() {
+		return 1.0;
+	}
+}
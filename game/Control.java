@@ -1,6 +1,5 @@
 package game;
 
-import java.awt.Point;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.awt.event.MouseEvent;
@@ -8,18 +7,27 @@ import java.awt.event.MouseListener;
 import java.awt.event.MouseMotionListener;
 import java.awt.image.BufferedImage;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.ArrayList;
-import java.util.HashMap;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
-import java.util.Scanner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import javax.swing.SwingUtilities;
 import javax.swing.Timer;
 
 import path.Path;
+import path.PathMask;
+import path.RouteGraph;
 
 /**
  * Initializes the GameObjects and moves through each frame.
@@ -32,11 +40,33 @@ public class Control implements Runnable, ActionListener, MouseListener, MouseMo
 	
 	private State state;
 	private View view;
+	private EnemyPool enemies;
+	private ParallelUpdater parallelUpdater; //null when updating on one thread
 	private static Path path;
-	private Map<String, BufferedImage> imageMap;
+	private RouteGraph routes; //every lane of the map, the path above is the first
+	private WaveScript waves;
+	private EnemySender enemySender;
+	private PathMask pathMask; //where towers cannot go
+	private HitGrid hitGrid; //every Clickable, by where it can be clicked
+	private WidgetRegistry widgets; //the buttons of the menu currently open
+	private Map<String, BufferedImage> imageMap; //every image of the asset manifest, decoded at startup, cannot be modified
+	private Map<String, BufferedImage> lateImages = new ConcurrentHashMap<>(); //images missing from the manifest
+	private SpriteCache sprites;
 	private int mouseX, mouseY;
+	private int[] pendingInputs = new int[3 * 16]; //kind, x and y of every input waiting for the next tick
+	private int pendingInputCount;
+	private InputJournal journal; //null when inputs are not recorded
+	private long tickCount; //ticks run so far
+	private FrameMetrics metrics = new FrameMetrics();
+	private MetricsOverlay metricsOverlay; //null when not shown
+	private RenderRing frames = new RenderRing();
+	private ExecutorService saver; //writes snapshots so the game does not wait for the disk, made on the first save
 	
-	public static List<SaltCrystals> crystals;
+	public static CrystalGrid crystals;
+	
+	public static final double SECONDS_PER_TICK = 0.016;
+	public static final int MAX_CATCH_UP_TICKS = 8;
+	public static final int RENDER_MILLIS = 4; //draws as often as Swing keeps up with, up to 250 times a second
 	
 	public static Bounds firstButton = new Bounds(50, 50, 610, 120, 0, 0);
 	public static Bounds secondButton = new Bounds(50, 50, 680, 120, 0, 0);
@@ -48,50 +78,149 @@ public class Control implements Runnable, ActionListener, MouseListener, MouseMo
 		SwingUtilities.invokeLater(this);
 	}
 	
+	/**
+	 * Constructor - like Control(), but records every input into a journal that is
+	 * written to a file when the program exits, see Replay.
+	 * 
+	 * @param journalFile the file to write the journal to
+	 */
+	public Control(File journalFile) {
+		journal = new InputJournal(SECONDS_PER_TICK);
+		InputJournal recorded = journal;
+		Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+			try(OutputStream out = new FileOutputStream(journalFile)) {
+				recorded.write(out);
+			} catch(IOException e) {
+				e.printStackTrace();
+			}
+		}));
+		SwingUtilities.invokeLater(this);
+	}
+	
+	/**
+	 * Constructor - sets up a game without a window or a Timer.
+	 * Nothing happens until tick() is called, see HeadlessSimulation.
+	 * 
+	 * @param isHeadless unused, tells this constructor apart from the windowed one
+	 */
+	Control(boolean isHeadless) {
+		initialize();
+	}
+	
 	/**
 	 * Invoked when the GUI thread 'runs later'.
 	 */
 	@Override
 	public void run() {
+		initialize();
+		state.setClock(new FixedStepClock(SECONDS_PER_TICK, MAX_CATCH_UP_TICKS));
+		view = new View(this, frames);
+		view.openWindow();
+		
+	    //add listeners
+	    view.addMouseListener(this);
+	    view.addMouseMotionListener(this);
+	    
+        publishFrame();
+        view.repaintDirty(); // picks up the first frame
+        view.repaint();  // Draw it, all of it.
+        
+        Timer t = new Timer((int)(SECONDS_PER_TICK * 1000), this); // Triggers every 16 milliseconds, reports to ActionListener
+        t.start();
+        
+        //drawing has its own Timer, Swing skips its events while painting falls behind so the ticks are not held up
+        Timer render = new Timer(RENDER_MILLIS, e -> render());
+        render.setCoalesce(true);
+        render.start();
+	}
+	
+	/**
+	 * Loads the path and creates the State with the first frame of GameObjects.
+	 * Does not touch any GUI classes, so it can be used without a display.
+	 */
+	private void initialize() {
 		
 		// Preinit --- load path from file
 		final String pathFileFilePath = "resources/path_2.txt"; //change if name of file changes
 		
 		try {
 			ClassLoader myLoader = this.getClass().getClassLoader();
-	        InputStream pathStream = myLoader.getResourceAsStream(pathFileFilePath);
-	        Scanner pathScanner = new Scanner(pathStream);
-	        path = new Path(pathScanner);
-		} catch(NullPointerException e) { 
+	        try(InputStream pathStream = myLoader.getResourceAsStream(pathFileFilePath)) {
+	        	path = Path.read(pathStream); //text or binary
+	        }
+		} catch(NullPointerException | IOException e) { 
 			e.printStackTrace();
 			System.out.println("Could not find or load " + pathFileFilePath);
             System.exit(0);  // Close the frame, bail out.
 		}
+		
+		final String wavesFilePath = "resources/waves.txt"; //change if name of file changes
+		try(InputStream wavesStream = this.getClass().getClassLoader().getResourceAsStream(wavesFilePath)) {
+			waves = WaveScript.read(wavesStream);
+		} catch(NullPointerException | IOException e) {
+			e.printStackTrace();
+			System.out.println("Could not find or load " + wavesFilePath);
+			System.exit(0);
+		}
+	    
+		try(InputStream manifestStream = this.getClass().getClassLoader().getResourceAsStream(AssetLoader.MANIFEST)) {
+			List<String> images = AssetLoader.readManifest(manifestStream);
+			imageMap = AssetLoader.preload(images, Runtime.getRuntime().availableProcessors(),
+					(filename, loaded, total) -> System.out.println("Loading " + filename + " (" + loaded + "/" + total + ")")); //TA verification
+		} catch(NullPointerException | IOException e) {
+			e.printStackTrace();
+			System.out.println("Could not find or load " + AssetLoader.MANIFEST);
+			System.exit(0);
+		}
 	    
 		// Initialization 
 		state = new State(this);
-        view = new View(this, state);
-        imageMap = new HashMap<>();
+        hitGrid = new HitGrid();
+        widgets = new WidgetRegistry();
+        sprites = new SpriteCache(this::getImage);
+        pathMask = new PathMask(getImage("mask.png"));
         state.setMoney(1000);
         state.setLives(10);
-        crystals = new ArrayList<>();
+        crystals = new CrystalGrid();
+        routes = RouteGraph.single(path);
+        enemies = new EnemyPool(state, this);
         
-	    //add listeners
-	    view.addMouseListener(this);
-	    view.addMouseMotionListener(this);
-	    
         //Jumpstarts the initial frame and draws it
         state.startFrame();  // Prepares the creation of the 'next' frame
         state.addGameObject(new Background(state, this));  // Add one background object to our list
         state.addGameObject(new Menu(state, this));  
+        state.addGameObject(enemies);
         openTowersMenu(); //spawns the two tower buttons
-        state.addGameObject(new EnemySender(state, this));
+        enemySender = new EnemySender(state, this, waves);
+        state.addGameObject(enemySender);
         state.finishFrame();    // Mark the next frame as ready
-
-        view.repaint();  // Draw it.
-        
-        Timer t = new Timer(16, this); // Triggers every 16 milliseconds, reports to ActionListener
-        t.start();
+	}
+	
+	/**
+	 * Returns the State of this game.
+	 * 
+	 * @return the State of this game
+	 */
+	public State getState() {
+		return state;
+	}
+	
+	/**
+	 * Returns the pool holding every enemy in this game.
+	 * 
+	 * @return the pool holding every enemy in this game
+	 */
+	public EnemyPool getEnemies() {
+		return enemies;
+	}
+	
+	/**
+	 * Returns the RenderRing the frames of this game are published to.
+	 * 
+	 * @return the RenderRing of this game
+	 */
+	public RenderRing getFrames() {
+		return frames;
 	}
 	
 	/**
@@ -104,24 +233,90 @@ public class Control implements Runnable, ActionListener, MouseListener, MouseMo
 	}
 	
 	/**
-	 * Fetches the image from a file in the "resources" folder each time a unique filename is given.
-	 * Stores filename keys in a map with the image values to retrieve faster each subsequent time
-	 * the same filename is given.
+	 * Returns every route enemies take through the map and how they connect.
+	 * 
+	 * @return the RouteGraph of this game
+	 */
+	public RouteGraph getRoutes() {
+		return routes;
+	}
+	
+	/**
+	 * Returns the GameObject sending the waves of enemies.
+	 * 
+	 * @return the EnemySender of this game
+	 */
+	public EnemySender getEnemySender() {
+		return enemySender;
+	}
+	
+	/**
+	 * Saves the game to a file. The game is copied right away, which is quick even for a
+	 * big game, then written on a background thread while the game keeps running. The file
+	 * is only replaced once the whole snapshot is written, so a crash never leaves half a save.
+	 * Only call from the thread the game ticks on, between two ticks.
+	 * 
+	 * @param file the file to save to
+	 * @return finishes once the file is written, get() throws the IOException if it could not be
+	 */
+	public Future<Void> saveSnapshot(File file) {
+		GameSnapshot snapshot = GameSnapshot.capture(this);
+		if(saver == null) {
+			saver = Executors.newSingleThreadExecutor(r -> {
+				Thread t = new Thread(r, "Snapshot writer");
+				t.setDaemon(true);
+				return t;
+			});
+		}
+		return saver.submit(() -> {
+			File temporary = new File(file.getPath() + ".tmp");
+			try(OutputStream out = new FileOutputStream(temporary)) {
+				snapshot.write(out);
+			}
+			Files.move(temporary.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			return null;
+		});
+	}
+	
+	/**
+	 * Loads a game saved with saveSnapshot into this game, replacing everything that happened so far.
+	 * Only call from the thread the game ticks on, between two ticks.
+	 * 
+	 * @param file the file to load
+	 * @throws IOException if the file could not be read, is not a saved game, or does not fit this map
+	 */
+	public void loadSnapshot(File file) throws IOException {
+		GameSnapshot snapshot;
+		try(InputStream in = new FileInputStream(file)) {
+			snapshot = GameSnapshot.read(in);
+		}
+		try {
+			snapshot.restore(this);
+		} catch(IllegalArgumentException e) {
+			throw new IOException(file + " does not fit this map", e);
+		}
+	}
+	
+	/**
+	 * Returns the image from a file in the "resources" folder. Every image in the asset
+	 * manifest was decoded when the game started, others are decoded the first time they
+	 * are asked for and kept after that.
 	 * 
 	 * @param filename the file name of the image inside the "resources" folder 
 	 * @return the image from that file
 	 */
 	public BufferedImage getImage(String filename) {
-        //if image has been loaded into map, return it
-		if(imageMap.containsKey(filename))
-			return imageMap.get(filename);
+		BufferedImage image = imageMap.get(filename);
+		if(image != null)
+			return image;
+		image = lateImages.get(filename);
+		if(image != null)
+			return image;
 		
 		try {
-            ClassLoader myLoader = Control.class.getClassLoader();
-            InputStream imageStream = myLoader.getResourceAsStream("resources/" + filename);
-            BufferedImage image = javax.imageio.ImageIO.read(imageStream);
-            imageMap.put(filename, image);
-            System.out.println("Loading " + filename); //TA verification 
+            image = AssetLoader.decode(filename);
+            lateImages.put(filename, image);
+            System.out.println("Loading " + filename + ", add it to " + AssetLoader.MANIFEST + " to load it at startup"); //TA verification 
             return image;
         } catch (IOException e) {
             e.printStackTrace();
@@ -131,55 +326,257 @@ public class Control implements Runnable, ActionListener, MouseListener, MouseMo
         }
 	}
 
+	/**
+	 * Returns the image from a file in the "resources" folder converted to the display's format,
+	 * use this instead of getImage for anything that is drawn.
+	 * 
+	 * @param filename the file name of the image inside the "resources" folder 
+	 * @return the image, ready to be drawn
+	 */
+	public BufferedImage getSprite(String filename) {
+		return sprites.getSprite(filename);
+	}
+	
+	/**
+	 * Returns the image from a file in the "resources" folder converted to the display's format
+	 * and scaled to the given size once, so it does not have to be scaled every time it is drawn.
+	 * 
+	 * @param filename the file name of the image inside the "resources" folder 
+	 * @param width the width to draw the image at
+	 * @param height the height to draw the image at
+	 * @return the scaled image, ready to be drawn
+	 */
+	public BufferedImage getSprite(String filename, int width, int height) {
+		return sprites.getSprite(filename, width, height);
+	}
+	
 	/**
 	 * Triggered on a timer in this class's run() method. 
-	 * Starts a new frame with last frame's GameObjects,
-	 * updates all the GameObjects, then updates the current frame 
-	 * to be this next frame, then draws onto screen.
+	 * Runs the ticks the Clock says are due (more than one if the Timer fell behind),
+	 * then publishes what the last one looks like. Nothing is drawn here, see render.
 	 * 
 	 * @param e the ActionEvent to be processed
 	 */
 	@Override
 	public void actionPerformed(ActionEvent e) {
+		int ticks = state.getClock().ticksDue();
+		for(int i = 0; i < ticks; i++)
+			tick();
+		if(ticks > 0)
+			publishFrame();
+	}
+	
+	/**
+	 * Records what every visible GameObject looks like right now into a RenderList and
+	 * publishes it for the View to draw, along with the area marked dirty since the last one.
+	 * The GameObjects are not touched by the View afterwards, so they can keep changing.
+	 */
+	public void publishFrame() {
+		long publishStart = System.nanoTime();
+		RenderList list = frames.getRecording();
+		Clock clock = state.getClock();
+		double step = state.getIsGameOver() ? 0 : clock.getElapsedTime(); //nothing moves after the game is over
+		list.begin(state.getStaticVersion(), step, clock.getStepProgress());
+		state.takeDirtyRegion(list.getDirtyRegion());
+		
+		List<GameObject> frame = state.getFrameObjects();
+		list.setLayer(RenderList.STATIC);
+		for(int i = 0; i < frame.size(); i++) {
+			GameObject go = frame.get(i);
+			if(go.isVisible() && !go.isExpired())
+				go.drawStatic(list);
+		}
+		list.setLayer(RenderList.DYNAMIC);
+		for(int i = 0; i < frame.size(); i++) {
+			GameObject go = frame.get(i);
+			if(go.isVisible() && !go.isExpired())
+				go.draw(list);
+		}
+		frames.publish();
+		metrics.record(FrameMetrics.PUBLISH, System.nanoTime() - publishStart);
+	}
+	
+	/**
+	 * Triggered on the render timer in this class's run() method.
+	 * Draws what changed onto screen, including enemies moving in between ticks.
+	 */
+	private void render() {
+		view.repaintDirty(); //essentially calls paint, on the parts that changed
+	}
+	
+	/**
+	 * Runs one tick of the game. Starts a new frame with last frame's GameObjects,
+	 * updates all the GameObjects, checks for collisions, then updates the current frame 
+	 * to be this next frame. Does not draw anything.
+	 */
+	public void tick() {
+		long tickStart = System.nanoTime();
+		metrics.startAllocations();
+		applyInputs();
 		state.startFrame();
 		
 		//don't update if game over
         if(!state.getIsGameOver()) {
         	//update all GameObjects
-        	for(GameObject go : state.getFrameObjects()) {
-        		go.update(state.getSecondsSinceGameStart());
+        	if(parallelUpdater != null) {
+        		parallelUpdater.update(state, enemies);
+        	} else {
+        		for(GameObject go : state.getFrameObjects()) {
+        			go.update(state.getSecondsSinceGameStart());
+        		}
+        	}
+        	long collisionStart = System.nanoTime();
+        	metrics.record(FrameMetrics.UPDATE, collisionStart - tickStart);
+        	
+        	//check for collisions
+        	for(int slot = 0; slot < enemies.getSlotLimit(); slot++) {
+        		if(!enemies.isAlive(slot))
+        			continue;
+        		EnemyType type = enemies.getType(slot);
+        		long loc = enemies.getPosition(slot);
+        		int x = Path.packedX(loc) + type.offsetX;
+        		int y = Path.packedY(loc) + type.offsetY;
         		
-        		//check for collisions
-        		if(go instanceof Enemy) {
-        			Enemy en = ((Enemy)go);
-        			Point p = getPath().convertToCoordinates(en.percentage);
-        			p.x += en.offsetX;
-        			p.y += en.offsetY;
-        			
-        			List<SaltCrystals> cList = new ArrayList<>(crystals);
-        			for(SaltCrystals sc : cList) {
-        				//check if mouse is over bounding box and that game is not over
-        				if(sc.bounds == null)
-        					continue;
-        				if(en.isExpired == true)
-        					continue;
-        				if(p.x < sc.bounds.posX || p.x > sc.bounds.posX + sc.bounds.width)
-        					continue;
-        				if(p.y < sc.bounds.posY || p.y > sc.bounds.posY + sc.bounds.height)
-        					continue;
-        				
-        				//take off health
-        				en.setHealth(en.getHealth() - SaltCrystals.DAMAGE_DONE);
-        				//destroy crystals
-        				sc.isExpired = true;
-        				crystals.remove(sc);
-        			}
+        		//only the crystals sharing the enemy's grid cell can be touching it
+        		List<SaltCrystals> cell = crystals.getCell(x, y);
+        		for(int i = cell.size() - 1; i >= 0; i--) {
+        			SaltCrystals sc = cell.get(i);
+        			//check if enemy is inside bounding box
+        			if(!enemies.isAlive(slot))
+        				break;
+        			if(x < sc.bounds.posX || x > sc.bounds.posX + sc.bounds.width)
+        				continue;
+        			if(y < sc.bounds.posY || y > sc.bounds.posY + sc.bounds.height)
+        				continue;
         			
+        			//take off health
+        			enemies.damage(slot, SaltCrystals.DAMAGE_DONE);
+        			//destroy crystals
+        			sc.isExpired = true;
+        			crystals.remove(sc);
         		}
         	}
+        	enemies.removeDead();
+        	metrics.record(FrameMetrics.COLLISION, System.nanoTime() - collisionStart);
         }
+        long finishStart = System.nanoTime();
         state.finishFrame();
-        view.repaint(); //essentially calls paint
+        long tickEnd = System.nanoTime();
+        metrics.record(FrameMetrics.FINISH_FRAME, tickEnd - finishStart);
+        metrics.record(FrameMetrics.TICK, tickEnd - tickStart);
+        metrics.finishAllocations();
+        tickCount++;
+        if(journal != null)
+        	journal.setEnd(tickCount, state.getMoney(), state.getLives(), enemySender.getWavesStarted());
+	}
+	
+	/**
+	 * Queues an input for the start of the next tick. Inputs are never applied in the
+	 * middle of a tick, so a replay can apply them at exactly the same point.
+	 * Only call from the thread the game ticks on.
+	 * 
+	 * @param kind InputJournal.MOVE or InputJournal.CLICK
+	 * @param x the x position of the mouse
+	 * @param y the y position of the mouse
+	 */
+	public void queueInput(byte kind, int x, int y) {
+		int last = (pendingInputCount - 1) * 3;
+		if(kind == InputJournal.MOVE && pendingInputCount > 0 && pendingInputs[last] == InputJournal.MOVE) {
+			//only where the mouse ended up matters
+			pendingInputs[last + 1] = x;
+			pendingInputs[last + 2] = y;
+			return;
+		}
+		if(pendingInputCount * 3 == pendingInputs.length)
+			pendingInputs = Arrays.copyOf(pendingInputs, pendingInputs.length * 2);
+		int at = pendingInputCount * 3;
+		pendingInputs[at] = kind;
+		pendingInputs[at + 1] = x;
+		pendingInputs[at + 2] = y;
+		pendingInputCount++;
+	}
+	
+	/**
+	 * Applies the inputs queued since the last tick, in order, and records them if recording.
+	 */
+	private void applyInputs() {
+		for(int i = 0; i < pendingInputCount; i++) {
+			byte kind = (byte)pendingInputs[i * 3];
+			int x = pendingInputs[i * 3 + 1];
+			int y = pendingInputs[i * 3 + 2];
+			if(journal != null)
+				journal.add(tickCount, kind, x, y);
+			mouseX = x;
+			mouseY = y;
+			if(kind == InputJournal.CLICK)
+				click(x, y);
+		}
+		pendingInputCount = 0;
+	}
+	
+	/**
+	 * Returns how many ticks have run since the game started.
+	 * 
+	 * @return the amount of ticks run
+	 */
+	public long getTickCount() {
+		return tickCount;
+	}
+	
+	/**
+	 * Returns the journal inputs are recorded into.
+	 * 
+	 * @return the journal, or null if inputs are not recorded
+	 */
+	public InputJournal getJournal() {
+		return journal;
+	}
+	
+	/**
+	 * Starts or stops recording inputs, like Control(File) does for a windowed game.
+	 * 
+	 * @param journal the journal to record into, with the seconds per tick of this game, or null to stop
+	 */
+	public void setJournal(InputJournal journal) {
+		this.journal = journal;
+	}
+	
+	/**
+	 * Returns how long the phases of the last ticks and paints took.
+	 * 
+	 * @return the FrameMetrics of this game
+	 */
+	public FrameMetrics getMetrics() {
+		return metrics;
+	}
+	
+	/**
+	 * Shows or hides the FrameMetrics in the bottom right corner of the screen.
+	 * Only call from the thread the game ticks on.
+	 * 
+	 * @param isShown whether to show the metrics
+	 */
+	public void setMetricsOverlay(boolean isShown) {
+		if(isShown == (metricsOverlay != null))
+			return;
+		if(isShown) {
+			metricsOverlay = new MetricsOverlay(state, this);
+			state.addGameObject(metricsOverlay);
+		} else {
+			metricsOverlay.isExpired = true;
+			metricsOverlay = null;
+		}
+	}
+
+	/**
+	 * Turns updating GameObjects across several threads on or off.
+	 * 
+	 * @param threads how many threads to update with, 1 or less updates on the calling thread only
+	 */
+	public void setUpdateThreads(int threads) {
+		if(parallelUpdater != null)
+			parallelUpdater.shutdown();
+		parallelUpdater = threads > 1 ? new ParallelUpdater(threads) : null;
 	}
 
     /**
@@ -201,40 +598,42 @@ public class Control implements Runnable, ActionListener, MouseListener, MouseMo
 	}
 	
 	/**
-	 * Goes through each GameObject and allows the first object to accept a click
-	 * to accept a click.
+	 * Queues the click for the next tick.
 	 * 
-	 * @param e unused
+	 * @param e the MouseEvent to get mouse coordinates from
 	 */
 	@Override
 	public void mouseReleased(MouseEvent e) {
-		for(GameObject go : state.getFrameObjects()) {
-			if(go instanceof Clickable) {
-				Clickable c = (Clickable) go;
-				if(c.consumeClick(mouseX, mouseY))
-					return;
-			}
+		queueInput(InputJournal.CLICK, e.getX(), e.getY());
+	}
+	
+	/**
+	 * Offers a click to the Clickables under it, top-most first, until one accepts it.
+	 * 
+	 * @param x the x position of the click
+	 * @param y the y position of the click
+	 */
+	private void click(int x, int y) {
+		List<Clickable> hits = hitGrid.getHitsAt(x, y);
+		for(int i = 0; i < hits.size(); i++) {
+			if(hits.get(i).consumeClick(x, y))
+				return;
 		}
 		//nothing was clicked, close upgrade menu if open
 		if(state.isUpgradeMenuOpen) {
 			state.isUpgradeMenuOpen = false;
-			for(GameObject go : state.getFrameObjects()) {
-				if(go instanceof UpgradeMenuButton) {
-					go.isExpired = true;
-				}
-			}
+			widgets.expireAll(); //only UpgradeMenuButtons are open
 			openTowersMenu();
 		}
 	}
 	/**
-	 * Stores the mouse X and Y coordinates every time it moves
+	 * Queues the new mouse X and Y coordinates for the next tick every time it moves
 	 * 
 	 * @param e the MouseEvent to get mouse coordinates from
 	 */
 	@Override
 	public void mouseMoved(MouseEvent e) {
-		mouseX = e.getX();
-		mouseY = e.getY();
+		queueInput(InputJournal.MOVE, e.getX(), e.getY());
 		//System.out.println(e.getX() + " " + e.getY() + " " + "COLOR: " + getImage("mask.png").getRGB(mouseX, mouseY));
 	}
 	
@@ -268,17 +667,42 @@ public class Control implements Runnable, ActionListener, MouseListener, MouseMo
 	}
 	
 	/**
-	 * returns whether or not a point is on or near the path
+	 * returns whether or not a point is on or near the path, points off the map count as near
 	 * 
 	 * @param posX the x position of the point
 	 * @param posY the y position of the point
 	 * @return whether or not a point is on or near the path
 	 */
 	public boolean isNearPath(int posX, int posY) {
-		if(getImage("mask.png").getRGB(posX, posY) == -1)
-			return false;
-		else
-			return true;
+		return pathMask.isBlocked(posX, posY);
+	}
+	
+	/**
+	 * Returns the mask of where towers cannot go, for checking whole tower footprints
+	 * or the distance to the path.
+	 * 
+	 * @return the mask of where towers cannot go
+	 */
+	public PathMask getPathMask() {
+		return pathMask;
+	}
+	
+	/**
+	 * Returns the grid every Clickable is registered in, for finding what is under a click.
+	 * 
+	 * @return the grid of Clickables
+	 */
+	public HitGrid getHitGrid() {
+		return hitGrid;
+	}
+	
+	/**
+	 * Returns the buttons of the menu currently open.
+	 * 
+	 * @return the registry of menu widgets
+	 */
+	public WidgetRegistry getWidgets() {
+		return widgets;
 	}
 	
 	/**
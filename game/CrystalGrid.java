@@ -0,0 +1,99 @@
+package game;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A uniform grid over the play field that SaltCrystals register into once their
+ * bounds become active. Enemies look up the single cell they are standing in
+ * instead of testing every crystal on the map.
+ *
+ * Positions outside of the play field are clamped to the edge cells, so crystals
+ * and enemies hanging off the map still meet each other.
+ *
+ * @author Kevin Cuellar
+ * @version 10/18/2026
+ */
+public class CrystalGrid {
+
+	public static final int FIELD_SIZE = 600; //in pixels, the play field is square
+	public static final int CELL_SIZE = 50; //in pixels, same size as a crystal
+	private static final int CELLS_PER_SIDE = FIELD_SIZE / CELL_SIZE;
+
+	private List<List<SaltCrystals>> cells;
+	private int size;
+
+	/**
+	 * Constructor - creates an empty grid covering the play field.
+	 */
+	public CrystalGrid() {
+		cells = new ArrayList<>(CELLS_PER_SIDE * CELLS_PER_SIDE);
+		for(int i = 0; i < CELLS_PER_SIDE * CELLS_PER_SIDE; i++)
+			cells.add(new ArrayList<>());
+	}
+
+	/**
+	 * Adds the crystal to every cell its bounds overlap. The crystal must have bounds.
+	 *
+	 * @param sc the SaltCrystals to add
+	 */
+	public void add(SaltCrystals sc) {
+		Bounds b = sc.bounds;
+		for(int cy = cellOf(b.posY); cy <= cellOf(b.posY + b.height); cy++)
+			for(int cx = cellOf(b.posX); cx <= cellOf(b.posX + b.width); cx++)
+				cells.get(cy * CELLS_PER_SIDE + cx).add(sc);
+		size++;
+	}
+
+	/**
+	 * Removes the crystal from every cell its bounds overlap.
+	 *
+	 * @param sc the SaltCrystals to remove
+	 */
+	public void remove(SaltCrystals sc) {
+		Bounds b = sc.bounds;
+		for(int cy = cellOf(b.posY); cy <= cellOf(b.posY + b.height); cy++)
+			for(int cx = cellOf(b.posX); cx <= cellOf(b.posX + b.width); cx++)
+				cells.get(cy * CELLS_PER_SIDE + cx).remove(sc);
+		size--;
+	}
+
+	/**
+	 * Returns the crystals that may contain the given point. Callers still
+	 * have to check the bounds of each crystal. Do not add to the returned list.
+	 *
+	 * @param x the x position of the point
+	 * @param y the y position of the point
+	 * @return the crystals registered in the cell containing the point
+	 */
+	public List<SaltCrystals> getCell(int x, int y) {
+		return cells.get(cellOf(y) * CELLS_PER_SIDE + cellOf(x));
+	}
+
+	/**
+	 * Returns the amount of crystals in the grid.
+	 *
+	 * @return the amount of crystals in the grid
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Removes every crystal from the grid.
+	 */
+	public void clear() {
+		for(List<SaltCrystals> cell : cells)
+			cell.clear();
+		size = 0;
+	}
+
+	private static int cellOf(int pos) {
+		int cell = pos / CELL_SIZE;
+		if(cell < 0)
+			return 0;
+		if(cell >= CELLS_PER_SIDE)
+			return CELLS_PER_SIDE - 1;
+		return cell;
+	}
+}
@@ -0,0 +1,491 @@
+package game;
+
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+
+import path.Path;
+import path.RouteGraph;
+
+/**
+ * Holds every enemy on the path as rows in primitive columns instead of one
+ * GameObject per enemy. Each enemy is a slot number; a slot is reused through a
+ * free list after its enemy dies or reaches the end of the path, so spawning does
+ * not allocate once the pool is large enough.
+ *
+ * An enemy is on one route of the game's RouteGraph at a time, at a distance in pixels
+ * along it. At a fork it takes the branch its spawn number picks.
+ *
+ * A slot's generation goes up every time the slot is freed, so anything holding
+ * on to an enemy (like a SnowBall) keeps the slot and the generation and checks
+ * isAlive(slot, generation) before touching it.
+ *
+ * @author Kevin Cuellar
+ * @version 10/18/2026
+ */
+public class EnemyPool extends GameObject {
+
+	private static final int FREE = -1; //type of a slot with no enemy in it
+	private static final double END_OF_PATH = 0.99;
+	private static final EnemyType[] TYPES = EnemyType.values();
+	private static final int MAX_SPRITE_WIDTH = 70; //s-cargo.png, the biggest enemy image
+	private static final int MAX_SPRITE_HEIGHT = 55;
+
+	private int[] route; //id in the RouteGraph
+	private double[] distance; //pixels along the route
+	private double[] previousDistance; //distance before the last move, drawn in between the two. Negative if that was on the route before
+	private double[] speed; //pixels per second
+	private int[] spawnNumber; //picks the branches the enemy takes
+	private int[] health;
+	private int[] type; //EnemyType ordinal, or FREE
+	private int[] generation;
+
+	private BufferedImage[] typeSprites = new BufferedImage[TYPES.length]; //looked up once per draw instead of once per enemy
+	private TargetingIndex targets = new TargetingIndex();
+	private boolean isTargetsStale = true; //the enemies moved since the snapshot was taken
+	private Rectangle drawnArea = new Rectangle(); //reused to mark where the enemies are drawn
+	private double[] firstOnRoute = new double[0]; //reused to find which part of each route has enemies on it
+	private double[] lastOnRoute = new double[0];
+	
+	private RouteGraph routes;
+	private int spawnCount;
+	
+	private int[] freeSlots;
+	private int freeCount;
+	private int slotLimit; //no slot at or above this has ever been used
+	private int size;
+
+	/**
+	 * Constructor - creates an empty pool.
+	 *
+	 * @param state the State object of the game
+	 * @param control the Control object of the game
+	 */
+	public EnemyPool(State state, Control control) {
+		super(state, control, -999_990);
+		isVisible = true;
+
+		routes = control.getRoutes();
+		int capacity = 64;
+		route = new int[capacity];
+		distance = new double[capacity];
+		previousDistance = new double[capacity];
+		speed = new double[capacity];
+		spawnNumber = new int[capacity];
+		health = new int[capacity];
+		type = new int[capacity];
+		generation = new int[capacity];
+		freeSlots = new int[capacity];
+		Arrays.fill(type, FREE);
+	}
+
+	/**
+	 * Puts a new enemy at the start of one of the routes enemies come in on.
+	 *
+	 * @param enemyType the kind of enemy
+	 * @param movementSpeed the speed of the enemy, percentage of the longest way through the map per second
+	 * @return the slot of the new enemy
+	 */
+	public int spawn(EnemyType enemyType, double movementSpeed) {
+		return spawn(enemyType, movementSpeed, 0);
+	}
+
+	/**
+	 * Puts a new enemy on one of the routes enemies come in on, as far along as it would
+	 * have walked since it was due.
+	 *
+	 * @param enemyType the kind of enemy
+	 * @param movementSpeed the speed of the enemy, percentage of the longest way through the map per second
+	 * @param secondsLate how many seconds ago the enemy was due, it is drawn walking from the start of the route
+	 * @return the slot of the new enemy
+	 */
+	public int spawn(EnemyType enemyType, double movementSpeed, double secondsLate) {
+		int slot;
+		if(freeCount > 0) {
+			slot = freeSlots[--freeCount];
+		} else {
+			if(slotLimit == type.length)
+				grow();
+			slot = slotLimit++;
+		}
+
+		spawnNumber[slot] = spawnCount++;
+		route[slot] = routes.chooseEntry(spawnNumber[slot]);
+		speed[slot] = movementSpeed * routes.getLongestLength();
+		distance[slot] = speed[slot] * secondsLate; //the next move carries it over a junction if it is that late
+		previousDistance[slot] = 0;
+		health[slot] = enemyType.health;
+		type[slot] = enemyType.ordinal();
+		size++;
+		return slot;
+	}
+
+	/**
+	 * Puts every enemy of a batch on the routes, in the order they were added.
+	 * The columns grow at most once for the whole batch.
+	 *
+	 * @param batch the enemies to spawn, still has to be released afterwards
+	 */
+	public void spawn(SpawnBatch batch) {
+		while(slotLimit + batch.size() - freeCount > type.length)
+			grow();
+		for(int i = 0; i < batch.size(); i++)
+			spawn(batch.getType(i), batch.getSpeed(i), batch.getSecondsLate(i));
+	}
+
+	/**
+	 * Moves every enemy forward based on its speed. Enemies that reach the end of
+	 * the path are removed and their lives are taken from the player.
+	 * The TargetingIndex snapshot is retaken the first time a tower asks for it afterwards.
+	 *
+	 * @param timeElapsed the time elapsed from the start of the game
+	 */
+	@Override
+	public void update(double timeElapsed) {
+		removeFinished(move(0, slotLimit, state.getElapsedTime()));
+	}
+	
+	/**
+	 * Moves the enemies in a range of slots forward. Does not remove anything, so 
+	 * separate ranges can be moved at the same time on different threads.
+	 *
+	 * @param from the first slot to move
+	 * @param to one past the last slot to move
+	 * @param elapsed the seconds to move the enemies for
+	 * @return the lives lost by enemies that reached the end of the path
+	 */
+	int move(int from, int to, double elapsed) {
+		int livesLost = 0;
+		for(int slot = from; slot < to; slot++) {
+			if(type[slot] == FREE)
+				continue;
+			previousDistance[slot] = distance[slot];
+			distance[slot] += speed[slot] * elapsed;
+			
+			//carry on along the next route, maybe more than one if they are short
+			int r = route[slot];
+			while(distance[slot] >= routes.getLength(r) && !routes.isExit(r)) {
+				distance[slot] -= routes.getLength(r);
+				previousDistance[slot] -= routes.getLength(r);
+				r = routes.chooseNext(r, spawnNumber[slot]);
+			}
+			route[slot] = r;
+			
+			if(isFinished(slot))
+				livesLost += TYPES[type[slot]].livesLostOnReachEnd;
+		}
+		return livesLost;
+	}
+	
+	/**
+	 * Removes every enemy that reached the end of the path, and takes the lives they cost.
+	 * Marks the part of the path the remaining enemies are drawn on until the next move as dirty.
+	 *
+	 * @param livesLost the lives lost, as returned by move
+	 */
+	void removeFinished(int livesLost) {
+		int routeCount = routes.getRouteCount();
+		if(firstOnRoute.length != routeCount) {
+			firstOnRoute = new double[routeCount];
+			lastOnRoute = new double[routeCount];
+		}
+		Arrays.fill(firstOnRoute, Double.MAX_VALUE);
+		Arrays.fill(lastOnRoute, -Double.MAX_VALUE);
+		
+		for(int slot = 0; slot < slotLimit; slot++) {
+			if(type[slot] == FREE)
+				continue;
+			if(isFinished(slot)) {
+				free(slot);
+				continue;
+			}
+			int r = route[slot];
+			firstOnRoute[r] = Math.min(firstOnRoute[r], Math.max(previousDistance[slot], 0));
+			lastOnRoute[r] = Math.max(lastOnRoute[r], distance[slot]);
+		}
+		if(livesLost > 0)
+			state.addLives(-livesLost);
+		isTargetsStale = true;
+		
+		for(int r = 0; r < routeCount; r++) {
+			if(firstOnRoute[r] > lastOnRoute[r])
+				continue;
+			//every enemy is drawn somewhere inside the sprite sized box around its point on the route
+			double length = routes.getLength(r);
+			routes.getRoute(r).getBounds(firstOnRoute[r] / length, lastOnRoute[r] / length, drawnArea);
+			state.markDirty(drawnArea.x + EnemyType.SNAIL.offsetX, drawnArea.y + EnemyType.SNAIL.offsetY,
+					drawnArea.width + MAX_SPRITE_WIDTH, drawnArea.height + MAX_SPRITE_HEIGHT);
+		}
+	}
+	
+	/**
+	 * Returns whether the enemy in the slot reached the end of the map.
+	 */
+	private boolean isFinished(int slot) {
+		return routes.isExit(route[slot]) && distance[slot] >= routes.getLength(route[slot]) * END_OF_PATH;
+	}
+
+	/**
+	 * Removes every enemy that has no health left and pays the player for it.
+	 * Called once per tick after everything has done its damage.
+	 */
+	public void removeDead() {
+		int money = 0;
+		for(int slot = 0; slot < slotLimit; slot++) {
+			if(type[slot] == FREE || health[slot] > 0)
+				continue;
+			money += TYPES[type[slot]].moneyOnDeath;
+			free(slot);
+		}
+		if(money > 0)
+			state.addMoney(money);
+	}
+
+	/**
+	 * Draws every enemy at the correct coordinates based on its distance along its route.
+	 * Enemies are recorded as moving from where they were before the last move to where they
+	 * are now, so the View can draw them in between and they move smoothly however often
+	 * the screen is drawn.
+	 *
+	 * @param list the RenderList to record into
+	 */
+	@Override
+	public void draw(RenderList list) {
+		for(int i = 0; i < TYPES.length; i++)
+			typeSprites[i] = control.getSprite(TYPES[i].imageFilename);
+		
+		for(int slot = 0; slot < slotLimit; slot++) {
+			if(type[slot] == FREE)
+				continue;
+			EnemyType t = TYPES[type[slot]];
+			long from = routes.getPackedCoordinates(route[slot], previousDistance[slot]);
+			long to = routes.getPackedCoordinates(route[slot], distance[slot]);
+	        list.drawImage(typeSprites[type[slot]], Path.packedX(from) + t.offsetX, Path.packedY(from) + t.offsetY,
+	        		Path.packedX(to) + t.offsetX, Path.packedY(to) + t.offsetY);
+		}
+	}
+
+	/**
+	 * Returns the snapshot of where the enemies were after they last moved,
+	 * for towers to pick targets from. Taken at most once per tick, and only
+	 * on ticks where some tower asks for it.
+	 *
+	 * @return the TargetingIndex of this tick
+	 */
+	public TargetingIndex getTargets() {
+		if(isTargetsStale) {
+			targets.rebuild(this);
+			isTargetsStale = false;
+		}
+		return targets;
+	}
+
+	/**
+	 * Takes health away from an enemy. The enemy is removed at the end of the tick if
+	 * it has no health left, until then it is no longer alive.
+	 *
+	 * @param slot the slot of the enemy
+	 * @param amount the amount of health to take away
+	 */
+	public void damage(int slot, int amount) {
+		health[slot] -= amount;
+	}
+
+	/**
+	 * Returns whether the slot holds an enemy that still has health.
+	 *
+	 * @param slot the slot to check
+	 * @return whether the slot holds an enemy that still has health
+	 */
+	public boolean isAlive(int slot) {
+		return type[slot] != FREE && health[slot] > 0;
+	}
+
+	/**
+	 * Returns whether the slot still holds the same enemy, and it still has health.
+	 *
+	 * @param slot the slot to check
+	 * @param slotGeneration the generation of the slot when the enemy was picked
+	 * @return whether the enemy is still alive
+	 */
+	public boolean isAlive(int slot, int slotGeneration) {
+		return generation[slot] == slotGeneration && isAlive(slot);
+	}
+
+	/**
+	 * Returns the generation of the slot, which changes every time the slot is freed.
+	 *
+	 * @param slot the slot
+	 * @return the generation of the slot
+	 */
+	public int getGeneration(int slot) {
+		return generation[slot];
+	}
+
+	/**
+	 * Returns the kind of enemy in the slot. The slot must hold an enemy.
+	 *
+	 * @param slot the slot
+	 * @return the kind of enemy in the slot
+	 */
+	public EnemyType getType(int slot) {
+		return TYPES[type[slot]];
+	}
+
+	/**
+	 * Returns how far through the map the enemy in the slot is, as a percentage of the
+	 * longest way through it. Enemies further along on any route have a higher progress.
+	 *
+	 * @param slot the slot
+	 * @return the percentage of the longest way through the map
+	 */
+	public double getProgress(int slot) {
+		return (routes.getStartDistance(route[slot]) + distance[slot]) / routes.getLongestLength();
+	}
+
+	/**
+	 * Moves the enemy in the slot to a percentage of the longest way through the map,
+	 * staying on its route, without drawing it in between.
+	 *
+	 * @param slot the slot
+	 * @param percentage the percentage of the longest way through the map
+	 */
+	public void setProgress(int slot, double percentage) {
+		distance[slot] = percentage * routes.getLongestLength() - routes.getStartDistance(route[slot]);
+		previousDistance[slot] = distance[slot];
+	}
+
+	/**
+	 * Returns the route the enemy in the slot is on.
+	 *
+	 * @param slot the slot
+	 * @return the id of the route in the RouteGraph
+	 */
+	public int getRoute(int slot) {
+		return route[slot];
+	}
+
+	/**
+	 * Returns how far along its route the enemy in the slot is.
+	 *
+	 * @param slot the slot
+	 * @return the distance along the route in pixels
+	 */
+	public double getDistance(int slot) {
+		return distance[slot];
+	}
+
+	/**
+	 * Returns the health of the enemy in the slot.
+	 *
+	 * @param slot the slot
+	 * @return the health of the enemy
+	 */
+	public int getHealth(int slot) {
+		return health[slot];
+	}
+
+	/**
+	 * Returns the location of the enemy on the Path, packed like Path.convertToPackedCoordinates.
+	 * The drawing offset of the enemy type is not added.
+	 *
+	 * @param slot the slot
+	 * @return the packed location of the enemy
+	 */
+	public long getPosition(int slot) {
+		return routes.getPackedCoordinates(route[slot], distance[slot]);
+	}
+
+	/**
+	 * Returns one more than the highest slot that has ever been used. Loop over
+	 * slots below this and skip the ones that are not alive.
+	 *
+	 * @return one more than the highest slot that has ever been used
+	 */
+	public int getSlotLimit() {
+		return slotLimit;
+	}
+
+	/**
+	 * Returns the amount of enemies in the pool.
+	 *
+	 * @return the amount of enemies in the pool
+	 */
+	public int size() {
+		return size;
+	}
+
+	private void free(int slot) {
+		type[slot] = FREE;
+		generation[slot]++;
+		freeSlots[freeCount++] = slot;
+		size--;
+	}
+
+	/**
+	 * Copies every slot into a snapshot.
+	 *
+	 * @param s the snapshot to copy into
+	 */
+	void saveTo(GameSnapshot s) {
+		s.slotLimit = slotLimit;
+		s.spawnCount = spawnCount;
+		s.freeSlots = Arrays.copyOf(freeSlots, freeCount);
+		s.enemyTypes = Arrays.copyOf(type, slotLimit);
+		s.generations = Arrays.copyOf(generation, slotLimit);
+		s.routes = Arrays.copyOf(route, slotLimit);
+		s.spawnNumbers = Arrays.copyOf(spawnNumber, slotLimit);
+		s.healths = Arrays.copyOf(health, slotLimit);
+		s.distances = Arrays.copyOf(distance, slotLimit);
+		s.previousDistances = Arrays.copyOf(previousDistance, slotLimit);
+		s.speeds = Arrays.copyOf(speed, slotLimit);
+	}
+
+	/**
+	 * Replaces every slot with the ones in a snapshot.
+	 *
+	 * @param s the snapshot to copy from
+	 * @throws IllegalArgumentException if an enemy is on a route the RouteGraph does not have, nothing is changed then
+	 */
+	void restoreFrom(GameSnapshot s) {
+		for(int slot = 0; slot < s.slotLimit; slot++)
+			if(s.enemyTypes[slot] != FREE && (s.routes[slot] < 0 || s.routes[slot] >= routes.getRouteCount()))
+				throw new IllegalArgumentException("Enemy in slot " + slot + " is on route " + s.routes[slot] + " which does not exist");
+
+		while(type.length < s.slotLimit)
+			grow();
+		Arrays.fill(type, FREE);
+		Arrays.fill(generation, 0);
+		System.arraycopy(s.enemyTypes, 0, type, 0, s.slotLimit);
+		System.arraycopy(s.generations, 0, generation, 0, s.slotLimit);
+		System.arraycopy(s.routes, 0, route, 0, s.slotLimit);
+		System.arraycopy(s.spawnNumbers, 0, spawnNumber, 0, s.slotLimit);
+		System.arraycopy(s.healths, 0, health, 0, s.slotLimit);
+		System.arraycopy(s.distances, 0, distance, 0, s.slotLimit);
+		System.arraycopy(s.previousDistances, 0, previousDistance, 0, s.slotLimit);
+		System.arraycopy(s.speeds, 0, speed, 0, s.slotLimit);
+		System.arraycopy(s.freeSlots, 0, freeSlots, 0, s.freeSlots.length);
+		freeCount = s.freeSlots.length;
+		slotLimit = s.slotLimit;
+		spawnCount = s.spawnCount;
+		size = 0;
+		for(int slot = 0; slot < slotLimit; slot++)
+			if(type[slot] != FREE)
+				size++;
+		isTargetsStale = true;
+	}
+
+	private void grow() {
+		int capacity = type.length * 2;
+		route = Arrays.copyOf(route, capacity);
+		distance = Arrays.copyOf(distance, capacity);
+		previousDistance = Arrays.copyOf(previousDistance, capacity);
+		spawnNumber = Arrays.copyOf(spawnNumber, capacity);
+		speed = Arrays.copyOf(speed, capacity);
+		health = Arrays.copyOf(health, capacity);
+		generation = Arrays.copyOf(generation, capacity);
+		freeSlots = Arrays.copyOf(freeSlots, capacity);
+		type = Arrays.copyOf(type, capacity);
+		Arrays.fill(type, capacity / 2, capacity, FREE);
+	}
+}
@@ -0,0 +1,45 @@
+package game;
+
+/**
+ * The kinds of enemies that walk the path. Each kind is one row of stats that the
+ * EnemyPool looks up by ordinal, instead of every enemy carrying its own copy.
+ * 
+ * @author Kevin Cuellar
+ * @version 10/18/2026
+ */
+public enum EnemyType {
+	
+	SNAIL("snail", "snail.png", 1, 0.025, 1, 15),
+	SCARGO("scargo", "s-cargo.png", 10, 0.02, 5, 40),
+	TURBO("turbo", "turbo.png", 1, 0.08, 1, 15);
+	
+	public static final double TURBO_SPEED = 0.08; //snails this fast or faster are turbo snails
+	
+	public final String enemyName;
+	public final String imageFilename;
+	public final int health;
+	public final double movementSpeed; //standard speed, percentage of the path per second
+	public final int livesLostOnReachEnd;
+	public final int moneyOnDeath;
+	public final int offsetX = -20; //offset for when the enemy is drawn on the path
+	public final int offsetY = -20; //offset for when the enemy is drawn on the path
+	
+	EnemyType(String enemyName, String imageFilename, int health, double movementSpeed, int livesLostOnReachEnd, int moneyOnDeath) {
+		this.enemyName = enemyName;
+		this.imageFilename = imageFilename;
+		this.health = health;
+		this.movementSpeed = movementSpeed;
+		this.livesLostOnReachEnd = livesLostOnReachEnd;
+		this.moneyOnDeath = moneyOnDeath;
+	}
+	
+	/**
+	 * Returns the snail type for the given speed, snails that are fast enough become turbo snails.
+	 * 
+	 * @param movementSpeed the speed of the snail
+	 * @return TURBO if the snail is at least TURBO_SPEED fast, SNAIL otherwise
+	 */
+	public static EnemyType snail(double movementSpeed) {
+		return movementSpeed >= TURBO_SPEED ? TURBO : SNAIL;
+	}
+}
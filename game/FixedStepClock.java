@@ -0,0 +1,85 @@
+package game;
+
+/**
+ * A Clock where every tick lasts exactly the same amount of game time. Real time is
+ * collected in an accumulator and paid out in whole steps, so if the Timer falls behind
+ * the missing steps are run back to back the next time instead of being lost.
+ * The game plays out the same no matter how busy the machine is.
+ * 
+ * @author Kevin Cuellar
+ * @version 10/18/2026
+ */
+public class FixedStepClock implements Clock {
+	
+	private final double step; //seconds per tick
+	private final int maxTicksPerCall; //stops a long stall from freezing the game with catch up ticks
+	private double accumulator; //real seconds not yet paid out as ticks
+	private long lastCallNanos;
+	private double secondsSinceGameStart;
+	
+	/**
+	 * Constructor - creates a clock that runs ticks of the given length.
+	 * 
+	 * @param step the seconds each tick lasts
+	 * @param maxTicksPerCall the most ticks to catch up on at once, older ones are dropped
+	 */
+	public FixedStepClock(double step, int maxTicksPerCall) {
+		this.step = step;
+		this.maxTicksPerCall = maxTicksPerCall;
+		lastCallNanos = System.nanoTime();
+	}
+	
+	/**
+	 * Adds the real time since the last call to the accumulator and returns
+	 * how many whole steps fit in it.
+	 * 
+	 * @return how many ticks should be run right now
+	 */
+	@Override
+	public int ticksDue() {
+		long now = System.nanoTime();
+		accumulator += (now - lastCallNanos) / 1_000_000_000.0;
+		lastCallNanos = now;
+		
+		int ticks = (int)(accumulator / step);
+		accumulator -= ticks * step;
+		if(ticks > maxTicksPerCall) 
+			ticks = maxTicksPerCall;
+		return ticks;
+	}
+	
+	/**
+	 * Moves the game time forward by exactly one step.
+	 */
+	@Override
+	public void advance() {
+		secondsSinceGameStart += step;
+	}
+	
+	@Override
+	public double getElapsedTime() {
+		return step;
+	}
+	
+	@Override
+	public double getSecondsSinceGameStart() {
+		return secondsSinceGameStart;
+	}
+	
+	@Override
+	public void setSecondsSinceGameStart(double seconds) {
+		secondsSinceGameStart = seconds;
+	}
+	
+	/**
+	 * Returns how far the real time is into the next step, from 0 to 1,
+	 * counting the real time since ticksDue was last called.
+	 * 
+	 * @return how far the real time is into the next step
+	 */
+	@Override
+	public double getStepProgress() {
+		double notPaidOut = accumulator + (System.nanoTime() - lastCallNanos) / 1_000_000_000.0;
+		return Math.min(notPaidOut / step, 1.0);
+	}
+}
@@ -0,0 +1,249 @@
+package game;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Where the time of every frame goes. Control times each phase of a tick (updating,
+ * collisions, finishing the frame), publishing the RenderList, and the View times painting;
+ * every measurement goes into a LatencyHistogram per phase so spikes show up in the p99
+ * and max instead of being averaged away. How many bytes the simulation thread allocated
+ * every tick is kept the same way, when the JVM can tell.
+ *
+ * How many GameObjects and enemies of each kind there are is counted on request, see
+ * countEntities. Everything can be shown with a MetricsOverlay or exported as CSV or JSON.
+ *
+ * Recorded on the thread the game ticks on (the Swing thread in a windowed game,
+ * which also paints). Recording and writing out are synchronized, so the metrics can be
+ * exported from another thread, like a shutdown hook, while the game still runs.
+ * The histograms returned by getPhase and getAllocations are only for the ticking thread.
+ *
+ * @author Kevin Cuellar
+ * @version 10/18/2026
+ */
+public class FrameMetrics {
+
+	public static final int TICK = 0; //a whole tick, the phases below add up to about this
+	public static final int UPDATE = 1; //inputs and GameObject updates
+	public static final int COLLISION = 2;
+	public static final int FINISH_FRAME = 3;
+	public static final int PUBLISH = 4; //recording and publishing the RenderList
+	public static final int PAINT = 5; //View.paint
+	private static final String[] PHASE_NAMES = {"tick", "update", "collision", "finishFrame", "publish", "paint"};
+
+	private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+	private final LatencyHistogram[] phases = new LatencyHistogram[PHASE_NAMES.length]; //nanoseconds
+	private final LatencyHistogram allocations = new LatencyHistogram(); //bytes per tick
+	private final com.sun.management.ThreadMXBean threads; //null when the JVM cannot count allocated bytes
+	private long tickStartBytes = -1;
+	private final Map<String, Integer> entityCounts = new TreeMap<>();
+
+	/**
+	 * Constructor - creates empty histograms.
+	 */
+	public FrameMetrics() {
+		for(int i = 0; i < phases.length; i++)
+			phases[i] = new LatencyHistogram();
+		ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		boolean canCount = bean instanceof com.sun.management.ThreadMXBean
+				&& ((com.sun.management.ThreadMXBean)bean).isThreadAllocatedMemorySupported()
+				&& ((com.sun.management.ThreadMXBean)bean).isThreadAllocatedMemoryEnabled();
+		threads = canCount ? (com.sun.management.ThreadMXBean)bean : null;
+	}
+
+	/**
+	 * Records how long a phase took.
+	 *
+	 * @param phase one of the phase constants, like UPDATE
+	 * @param nanos the nanoseconds it took
+	 */
+	public synchronized void record(int phase, long nanos) {
+		phases[phase].record(nanos);
+	}
+
+	/**
+	 * Remembers how much the calling thread allocated so far, call at the start of a tick.
+	 */
+	public synchronized void startAllocations() {
+		if(threads != null)
+			tickStartBytes = threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+	}
+
+	/**
+	 * Records how much the calling thread allocated since startAllocations, call at the end of a tick.
+	 * Only an estimate, the JVM counts whole buffers and threads of a parallel update are not included.
+	 */
+	public synchronized void finishAllocations() {
+		if(threads == null || tickStartBytes < 0)
+			return;
+		allocations.record(threads.getThreadAllocatedBytes(Thread.currentThread().getId()) - tickStartBytes);
+		tickStartBytes = -1;
+	}
+
+	/**
+	 * Counts the GameObjects of the current frame by class and the enemies by type.
+	 * Goes through every GameObject and enemy slot, so call it when the counts are needed
+	 * rather than every tick.
+	 *
+	 * @param control the Control of the game
+	 */
+	public synchronized void countEntities(Control control) {
+		entityCounts.clear();
+		List<GameObject> frame = control.getState().getFrameObjects();
+		for(int i = 0; i < frame.size(); i++) {
+			GameObject go = frame.get(i);
+			if(!go.isExpired())
+				entityCounts.merge(go.getClass().getSimpleName(), 1, Integer::sum);
+		}
+		EnemyPool enemies = control.getEnemies();
+		for(int slot = 0; slot < enemies.getSlotLimit(); slot++)
+			if(enemies.isAlive(slot))
+				entityCounts.merge("enemy." + enemies.getType(slot).enemyName, 1, Integer::sum);
+	}
+
+	/**
+	 * Returns the amounts found by the last countEntities, sorted by name.
+	 *
+	 * @return the amount of each kind of GameObject and enemy, do not modify
+	 */
+	public Map<String, Integer> getEntityCounts() {
+		return entityCounts;
+	}
+
+	/**
+	 * Returns the histogram of a phase.
+	 *
+	 * @param phase one of the phase constants, like UPDATE
+	 * @return the nanoseconds the phase took
+	 */
+	public LatencyHistogram getPhase(int phase) {
+		return phases[phase];
+	}
+
+	/**
+	 * Returns the name of a phase, as used in the exports.
+	 *
+	 * @param phase one of the phase constants, like UPDATE
+	 * @return the name of the phase
+	 */
+	public static String getPhaseName(int phase) {
+		return PHASE_NAMES[phase];
+	}
+
+	/**
+	 * Returns the amount of phases.
+	 *
+	 * @return the amount of phases
+	 */
+	public static int getPhaseCount() {
+		return PHASE_NAMES.length;
+	}
+
+	/**
+	 * Returns the histogram of bytes allocated per tick.
+	 *
+	 * @return the bytes allocated every tick, empty when the JVM cannot count them
+	 */
+	public LatencyHistogram getAllocations() {
+		return allocations;
+	}
+
+	/**
+	 * Forgets everything recorded, like after warming up.
+	 */
+	public synchronized void reset() {
+		for(LatencyHistogram phase : phases)
+			phase.reset();
+		allocations.reset();
+		entityCounts.clear();
+	}
+
+	/**
+	 * Writes one line per phase (and one for allocations) with the count, mean, percentiles
+	 * and max, then one line per kind of entity.
+	 *
+	 * @param out where to write to
+	 * @throws IOException if out could not be written to
+	 */
+	public synchronized void writeCsv(Appendable out) throws IOException {
+		out.append("metric,unit,count,mean,min");
+		for(double p : PERCENTILES)
+			out.append(",p").append(percentileName(p));
+		out.append(",max\n");
+		for(int i = 0; i < phases.length; i++)
+			writeCsvRow(out, PHASE_NAMES[i], "ns", phases[i]);
+		writeCsvRow(out, "allocated", "bytes", allocations);
+		for(Map.Entry<String, Integer> e : entityCounts.entrySet())
+			out.append(e.getKey()).append(",count,").append(String.valueOf(e.getValue())).append('\n');
+	}
+
+	/**
+	 * Writes the same as writeCsv as one JSON object.
+	 *
+	 * @param out where to write to
+	 * @throws IOException if out could not be written to
+	 */
+	public synchronized void writeJson(Appendable out) throws IOException {
+		out.append("{\n  \"phases\": {\n");
+		for(int i = 0; i < phases.length; i++) {
+			out.append("    \"").append(PHASE_NAMES[i]).append("\": ");
+			writeJsonHistogram(out, phases[i]);
+			out.append(i < phases.length - 1 ? ",\n" : "\n");
+		}
+		out.append("  },\n  \"allocatedBytes\": ");
+		writeJsonHistogram(out, allocations);
+		out.append(",\n  \"entities\": {");
+		boolean isFirst = true;
+		for(Map.Entry<String, Integer> e : entityCounts.entrySet()) {
+			out.append(isFirst ? "\n" : ",\n").append("    \"").append(e.getKey()).append("\": ").append(String.valueOf(e.getValue()));
+			isFirst = false;
+		}
+		out.append(isFirst ? "}\n}\n" : "\n  }\n}\n");
+	}
+
+	/**
+	 * Writes the metrics to a file, as JSON if the name ends with .json and as CSV otherwise.
+	 *
+	 * @param file the file to write to
+	 * @throws IOException if the file could not be written
+	 */
+	public void export(File file) throws IOException {
+		try(Writer out = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+			if(file.getName().toLowerCase(Locale.ROOT).endsWith(".json"))
+				writeJson(out);
+			else
+				writeCsv(out);
+		}
+	}
+
+	private static void writeCsvRow(Appendable out, String name, String unit, LatencyHistogram h) throws IOException {
+		out.append(name).append(',').append(unit).append(',').append(String.valueOf(h.getCount()))
+				.append(',').append(String.valueOf((long)h.getMean())).append(',').append(String.valueOf(h.getMin()));
+		for(double p : PERCENTILES)
+			out.append(',').append(String.valueOf(h.getValueAtPercentile(p)));
+		out.append(',').append(String.valueOf(h.getMax())).append('\n');
+	}
+
+	private static void writeJsonHistogram(Appendable out, LatencyHistogram h) throws IOException {
+		out.append("{\"count\": ").append(String.valueOf(h.getCount()))
+				.append(", \"mean\": ").append(String.valueOf((long)h.getMean()))
+				.append(", \"min\": ").append(String.valueOf(h.getMin()));
+		for(double p : PERCENTILES)
+			out.append(", \"p").append(percentileName(p)).append("\": ").append(String.valueOf(h.getValueAtPercentile(p)));
+		out.append(", \"max\": ").append(String.valueOf(h.getMax())).append('}');
+	}
+
+	private static String percentileName(double p) {
+		return p == (long)p ? String.valueOf((long)p) : String.valueOf(p).replace('.', '_');
+	}
+}
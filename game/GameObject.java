@@ -1,7 +1,5 @@
 package game;
 
-import java.awt.Graphics;
-
 /**
  * GameObjects are entities within the game. 
  * They are updated and drawn internally by extending classes.
@@ -49,6 +47,15 @@ public abstract class GameObject {
      */
     public boolean isExpired() { return isExpired; }
     
+    /**
+     * Returns whether this GameObject can be updated at the same time as others on another thread.
+     * Such GameObjects may only change shared things (the State, the EnemyPool, static fields...) 
+     * through State.addGameObject, addMoney, addLives and defer. False by default.
+     * 
+     * @return whether this GameObject can be updated in parallel
+     */
+    public boolean canUpdateInParallel() { return false; }
+    
     /**
      * How to change the object each time update is called
      * 
@@ -57,9 +64,28 @@ public abstract class GameObject {
 	abstract public void update(double timeElapsed);
 	
     /**
-     * Draws the GameObject on to the given Graphics object.
+     * Records how the GameObject is drawn into the given RenderList. Called on the 
+     * simulation's side at the end of a tick, the View draws the list later.
+     * 
+     * @param list the RenderList to record into
+     */
+	abstract public void draw(RenderList list);
+	
+    /**
+     * Draws the parts of the GameObject that never change. The View draws these once
+     * into a cached layer under everything else instead of every frame. Does nothing by default.
      * 
-     * @param g the Graphics object to draw to
+     * @param list the RenderList to record into
      */
-	abstract public void draw(Graphics g);
+	public void drawStatic(RenderList list) {
+		//nothing static
+	}
+	
+    /**
+     * Called once by the State after this GameObject has expired and been removed
+     * from the frame. Override to give the object back to a pool. Does nothing by default.
+     */
+	protected void onRemoved() {
+		//nothing to clean up
+	}
 }
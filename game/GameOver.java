@@ -1,6 +1,5 @@
 package game;
 
-import java.awt.Graphics;
 
 /**
  * GameOver is a static image that stops further play because
@@ -21,6 +20,7 @@ public class GameOver extends GameObject{
 		super(state, control, 100_000_000);
 		isVisible = true;
 		isExpired = false;
+		state.markDirty(0, 0, 800, 600);
 	}
 	
     /**
@@ -36,11 +36,11 @@ public class GameOver extends GameObject{
     /**
      * Draws the GameOver image onto the screen.
      * 
-     * @param g the Graphics object to draw to
+     * @param list the RenderList to record into
      */
 	@Override
-	public void draw(Graphics g) {
-		g.drawImage(control.getImage("gameover.png"), 0, 0, null); //draw game over screen
+	public void draw(RenderList list) {
+		list.drawImage(control.getSprite("gameover.png"), 0, 0); //draw game over screen
 	}
 
 }
@@ -0,0 +1,419 @@
+package game;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * Everything needed to carry on a game from where it was: money, lives and game time,
+ * every enemy, the waves still to come, the placed towers and what they shot that is
+ * still flying.
+ *
+ * A snapshot is taken on the simulation thread between two ticks by copying the state
+ * into the arrays of the snapshot, which is only a few array copies even for a big game.
+ * Nothing in the game is touched afterwards, so the snapshot can be written out on another
+ * thread while the game keeps running, see Control.saveSnapshot.
+ *
+ * The binary format is a header (magic number and version) followed by each part of the
+ * game in the order above. Free enemy slots only take their generation, so SnowBalls still
+ * aiming at a slot behave the same after loading.
+ *
+ * The upgrade menu and a tower held by the cursor are not saved, the held tower's cost is
+ * given back instead.
+ *
+ * @author Kevin Cuellar
+ * @version 10/18/2026
+ */
+public class GameSnapshot {
+
+	public static final int MAGIC = 0x534E4150; //"SNAP"
+	public static final int VERSION = 1;
+
+	static final int TOWER_INTS = 7; //x, y, speed, cost, damage, range, targeting
+	static final int SHOT_INTS = 9; //x, y, startX, startY, endX, endY, aimedSlot, aimedGeneration, damage
+	private static final byte SALT_TOWER = 0;
+	private static final byte SALT_CATAPULT = 1;
+	private static final byte SNOW_BALL = 0;
+	private static final byte SALT_CRYSTALS = 1;
+	private static final Targeting[] TARGETINGS = Targeting.values();
+
+	//State
+	int money;
+	int lives;
+	double secondsSinceGameStart;
+
+	//EnemyPool, slots 0 to slotLimit
+	int slotLimit;
+	int spawnCount;
+	int[] freeSlots;
+	int[] enemyTypes; //-1 for a free slot
+	int[] generations;
+	int[] routes;
+	int[] spawnNumbers;
+	int[] healths;
+	double[] distances;
+	double[] previousDistances;
+	double[] speeds;
+
+	//WaveScheduler, spawns still in its queue
+	int wavesPlanned;
+	int wavesStarted;
+	double nextWaveStart;
+	double[] spawnTimes;
+	int[] spawnTypes;
+	double[] spawnSpeeds;
+	int[] spawnWaves;
+
+	//placed Towers
+	int towerCount;
+	byte[] towerKinds;
+	int[] towerInts; //TOWER_INTS per tower
+	boolean[] towerMidHasPassed;
+
+	//SnowBalls and SaltCrystals
+	int shotCount;
+	byte[] shotKinds;
+	int[] shotInts; //SHOT_INTS per shot
+	double[] shotPercentages;
+
+	/**
+	 * Copies the state of a game. Only call from the simulation thread between two ticks.
+	 *
+	 * @param control the Control of the game
+	 * @return the snapshot, independent of the game
+	 */
+	public static GameSnapshot capture(Control control) {
+		GameSnapshot s = new GameSnapshot();
+		State state = control.getState();
+		s.money = state.getMoney();
+		s.lives = state.getLives();
+		s.secondsSinceGameStart = state.getSecondsSinceGameStart();
+		control.getEnemies().saveTo(s);
+		control.getEnemySender().saveTo(s);
+
+		List<GameObject> frame = state.getFrameObjects();
+		for(GameObject go : frame) {
+			if(go.isExpired())
+				continue;
+			if(go instanceof Tower && !((Tower)go).isMoving)
+				s.towerCount++;
+			else if(go instanceof SnowBall || go instanceof SaltCrystals)
+				s.shotCount++;
+		}
+		s.towerKinds = new byte[s.towerCount];
+		s.towerInts = new int[s.towerCount * TOWER_INTS];
+		s.towerMidHasPassed = new boolean[s.towerCount];
+		s.shotKinds = new byte[s.shotCount];
+		s.shotInts = new int[s.shotCount * SHOT_INTS];
+		s.shotPercentages = new double[s.shotCount];
+
+		int tower = 0;
+		int shot = 0;
+		for(GameObject go : frame) {
+			if(go.isExpired())
+				continue;
+			if(go instanceof Tower) {
+				Tower t = (Tower)go;
+				if(t.isMoving) {
+					s.money += t.cost; //given back, the held tower is not saved
+					continue;
+				}
+				s.towerKinds[tower] = t instanceof SaltCatapult ? SALT_CATAPULT : SALT_TOWER;
+				s.towerMidHasPassed[tower] = t instanceof SaltCatapult ? ((SaltCatapult)t).midHasPassed : ((SaltTower)t).midHasPassed;
+				int at = tower * TOWER_INTS;
+				s.towerInts[at] = t.bounds.posX;
+				s.towerInts[at + 1] = t.bounds.posY;
+				s.towerInts[at + 2] = t.speed;
+				s.towerInts[at + 3] = t.cost;
+				s.towerInts[at + 4] = t.damage;
+				s.towerInts[at + 5] = t.range;
+				s.towerInts[at + 6] = t.targeting instanceof Targeting ? ((Targeting)t.targeting).ordinal() : -1;
+				tower++;
+			} else if(go instanceof SnowBall) {
+				s.shotKinds[shot] = SNOW_BALL;
+				s.shotPercentages[shot] = ((SnowBall)go).saveTo(s.shotInts, shot * SHOT_INTS);
+				shot++;
+			} else if(go instanceof SaltCrystals) {
+				s.shotKinds[shot] = SALT_CRYSTALS;
+				s.shotPercentages[shot] = ((SaltCrystals)go).saveTo(s.shotInts, shot * SHOT_INTS);
+				shot++;
+			}
+		}
+		return s;
+	}
+
+	/**
+	 * Puts a game back to how it was in this snapshot. Only call from the simulation
+	 * thread between two ticks. Towers, shots and menus of the game are replaced.
+	 *
+	 * @param control the Control of the game
+	 * @throws IllegalArgumentException if an enemy is on a route the game does not have, nothing is changed then
+	 */
+	public void restore(Control control) {
+		State state = control.getState();
+		control.getEnemies().restoreFrom(this); //first, it checks the routes still exist
+		control.getEnemySender().restoreFrom(this);
+		
+		Tower.dropHeldTower();
+		control.getWidgets().expireAll();
+		for(GameObject go : state.getFrameObjects()) {
+			if(go instanceof Tower || go instanceof SnowBall || go instanceof SaltCrystals || go instanceof GameOver)
+				go.isExpired = true;
+		}
+		Control.crystals = new CrystalGrid();
+		state.isUpgradeMenuOpen = false;
+
+		for(int i = 0; i < towerCount; i++) {
+			int at = i * TOWER_INTS;
+			int x = towerInts[at];
+			int y = towerInts[at + 1];
+			Tower t;
+			if(towerKinds[i] == SALT_CATAPULT) {
+				SaltCatapult catapult = new SaltCatapult(state, control, x, y);
+				catapult.midHasPassed = towerMidHasPassed[i];
+				t = catapult;
+			} else {
+				SaltTower saltTower = new SaltTower(state, control, x, y);
+				saltTower.midHasPassed = towerMidHasPassed[i];
+				t = saltTower;
+			}
+			t.speed = towerInts[at + 2];
+			t.cost = towerInts[at + 3];
+			t.damage = towerInts[at + 4];
+			t.range = towerInts[at + 5];
+			int targeting = towerInts[at + 6];
+			if(targeting >= 0 && targeting < TARGETINGS.length)
+				t.targeting = TARGETINGS[targeting];
+			t.place(x, y);
+			state.addGameObject(t);
+		}
+
+		for(int i = 0; i < shotCount; i++) {
+			if(shotKinds[i] == SNOW_BALL)
+				state.addGameObject(SnowBall.restore(state, control, shotInts, i * SHOT_INTS, shotPercentages[i]));
+			else
+				state.addGameObject(SaltCrystals.restore(state, control, shotInts, i * SHOT_INTS, shotPercentages[i]));
+		}
+
+		//after the towers, which take their cost when made
+		state.restore(money, lives, secondsSinceGameStart);
+		control.openTowersMenu();
+		state.finishFrame();
+		state.invalidateStaticLayer();
+		state.markDirty(0, 0, 800, 600);
+	}
+
+	/**
+	 * Writes this snapshot in the binary format, does not close the stream.
+	 * Can be called from any thread.
+	 *
+	 * @param out the stream to write to
+	 * @throws IOException if the stream could not be written to
+	 */
+	public void write(OutputStream out) throws IOException {
+		DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+		data.writeInt(MAGIC);
+		data.writeInt(VERSION);
+
+		data.writeInt(money);
+		data.writeInt(lives);
+		data.writeDouble(secondsSinceGameStart);
+
+		data.writeInt(slotLimit);
+		data.writeInt(spawnCount);
+		data.writeInt(freeSlots.length);
+		for(int slot : freeSlots)
+			data.writeInt(slot);
+		for(int slot = 0; slot < slotLimit; slot++) {
+			data.writeByte(enemyTypes[slot]);
+			data.writeInt(generations[slot]);
+			if(enemyTypes[slot] < 0)
+				continue;
+			data.writeInt(routes[slot]);
+			data.writeInt(spawnNumbers[slot]);
+			data.writeInt(healths[slot]);
+			data.writeDouble(distances[slot]);
+			data.writeDouble(previousDistances[slot]);
+			data.writeDouble(speeds[slot]);
+		}
+
+		data.writeInt(wavesPlanned);
+		data.writeInt(wavesStarted);
+		data.writeDouble(nextWaveStart);
+		data.writeInt(spawnTimes.length);
+		for(int i = 0; i < spawnTimes.length; i++) {
+			data.writeDouble(spawnTimes[i]);
+			data.writeByte(spawnTypes[i]);
+			data.writeDouble(spawnSpeeds[i]);
+			data.writeInt(spawnWaves[i]);
+		}
+
+		data.writeInt(towerCount);
+		for(int i = 0; i < towerCount; i++) {
+			data.writeByte(towerKinds[i]);
+			data.writeBoolean(towerMidHasPassed[i]);
+			for(int j = 0; j < TOWER_INTS; j++)
+				data.writeInt(towerInts[i * TOWER_INTS + j]);
+		}
+
+		data.writeInt(shotCount);
+		for(int i = 0; i < shotCount; i++) {
+			data.writeByte(shotKinds[i]);
+			data.writeDouble(shotPercentages[i]);
+			for(int j = 0; j < SHOT_INTS; j++)
+				data.writeInt(shotInts[i * SHOT_INTS + j]);
+		}
+		data.flush();
+	}
+
+	/**
+	 * Reads a snapshot in the binary format from a stream, does not close it.
+	 *
+	 * @param in the stream to read from
+	 * @return the snapshot read
+	 * @throws IOException if the stream could not be read or is not a snapshot of a known version
+	 */
+	public static GameSnapshot read(InputStream in) throws IOException {
+		DataInputStream data = new DataInputStream(in instanceof BufferedInputStream ? in : new BufferedInputStream(in));
+		if(data.readInt() != MAGIC)
+			throw new IOException("Not a saved game");
+		int version = data.readInt();
+		if(version != VERSION)
+			throw new IOException("Unknown saved game version " + version);
+
+		GameSnapshot s = new GameSnapshot();
+		s.money = data.readInt();
+		s.lives = data.readInt();
+		s.secondsSinceGameStart = data.readDouble();
+
+		s.slotLimit = count(data.readInt());
+		s.spawnCount = data.readInt();
+		s.freeSlots = new int[count(data.readInt())];
+		for(int i = 0; i < s.freeSlots.length; i++)
+			s.freeSlots[i] = slot(data.readInt(), s.slotLimit);
+		s.enemyTypes = new int[s.slotLimit];
+		s.generations = new int[s.slotLimit];
+		s.routes = new int[s.slotLimit];
+		s.spawnNumbers = new int[s.slotLimit];
+		s.healths = new int[s.slotLimit];
+		s.distances = new double[s.slotLimit];
+		s.previousDistances = new double[s.slotLimit];
+		s.speeds = new double[s.slotLimit];
+		for(int slot = 0; slot < s.slotLimit; slot++) {
+			s.enemyTypes[slot] = data.readByte();
+			s.generations[slot] = data.readInt();
+			if(s.enemyTypes[slot] == -1)
+				continue;
+			s.enemyTypes[slot] = slot(s.enemyTypes[slot], EnemyType.values().length);
+			s.routes[slot] = data.readInt();
+			s.spawnNumbers[slot] = data.readInt();
+			s.healths[slot] = data.readInt();
+			s.distances[slot] = data.readDouble();
+			s.previousDistances[slot] = data.readDouble();
+			s.speeds[slot] = data.readDouble();
+		}
+		checkFreeSlots(s);
+
+		s.wavesPlanned = data.readInt();
+		s.wavesStarted = data.readInt();
+		s.nextWaveStart = data.readDouble();
+		int spawns = count(data.readInt());
+		s.spawnTimes = new double[spawns];
+		s.spawnTypes = new int[spawns];
+		s.spawnSpeeds = new double[spawns];
+		s.spawnWaves = new int[spawns];
+		for(int i = 0; i < spawns; i++) {
+			s.spawnTimes[i] = data.readDouble();
+			s.spawnTypes[i] = slot(data.readByte(), EnemyType.values().length);
+			s.spawnSpeeds[i] = data.readDouble();
+			s.spawnWaves[i] = data.readInt();
+		}
+
+		s.towerCount = count(data.readInt());
+		s.towerKinds = new byte[s.towerCount];
+		s.towerMidHasPassed = new boolean[s.towerCount];
+		s.towerInts = new int[s.towerCount * TOWER_INTS];
+		for(int i = 0; i < s.towerCount; i++) {
+			s.towerKinds[i] = (byte)slot(data.readByte(), SALT_CATAPULT + 1);
+			s.towerMidHasPassed[i] = data.readBoolean();
+			for(int j = 0; j < TOWER_INTS; j++)
+				s.towerInts[i * TOWER_INTS + j] = data.readInt();
+		}
+
+		s.shotCount = count(data.readInt());
+		s.shotKinds = new byte[s.shotCount];
+		s.shotPercentages = new double[s.shotCount];
+		s.shotInts = new int[s.shotCount * SHOT_INTS];
+		for(int i = 0; i < s.shotCount; i++) {
+			s.shotKinds[i] = (byte)slot(data.readByte(), SALT_CRYSTALS + 1);
+			s.shotPercentages[i] = data.readDouble();
+			for(int j = 0; j < SHOT_INTS; j++)
+				s.shotInts[i * SHOT_INTS + j] = data.readInt();
+			if(s.shotKinds[i] == SNOW_BALL)
+				slot(s.shotInts[i * SHOT_INTS + 6], s.slotLimit);
+		}
+		return s;
+	}
+
+	/**
+	 * Returns the amount of money in the saved game.
+	 *
+	 * @return the amount of money
+	 */
+	public int getMoney() {
+		return money;
+	}
+
+	/**
+	 * Returns the amount of lives in the saved game.
+	 *
+	 * @return the amount of lives
+	 */
+	public int getLives() {
+		return lives;
+	}
+
+	/**
+	 * Returns the game time the game was saved at.
+	 *
+	 * @return the seconds of game time since the game started
+	 */
+	public double getSecondsSinceGameStart() {
+		return secondsSinceGameStart;
+	}
+
+	/**
+	 * Checks that the free slots are exactly the slots without an enemy, each once,
+	 * otherwise the EnemyPool would hand out a slot that is still in use.
+	 */
+	private static void checkFreeSlots(GameSnapshot s) throws IOException {
+		boolean[] isListed = new boolean[s.slotLimit];
+		for(int slot : s.freeSlots) {
+			if(isListed[slot])
+				throw new IOException("Free slot " + slot + " is listed twice in saved game");
+			if(s.enemyTypes[slot] != -1)
+				throw new IOException("Free slot " + slot + " holds an enemy in saved game");
+			isListed[slot] = true;
+		}
+		for(int slot = 0; slot < s.slotLimit; slot++)
+			if(s.enemyTypes[slot] == -1 && !isListed[slot])
+				throw new IOException("Slot " + slot + " has no enemy but is not listed as free in saved game");
+	}
+
+	private static int count(int amount) throws IOException {
+		if(amount < 0 || amount > 1 << 24)
+			throw new IOException("Bad amount " + amount + " in saved game");
+		return amount;
+	}
+
+	private static int slot(int index, int limit) throws IOException {
+		if(index < 0 || index >= limit)
+			throw new IOException("Bad index " + index + " in saved game");
+		return index;
+	}
+}
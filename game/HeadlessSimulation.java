@@ -0,0 +1,132 @@
+package game;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Runs the game without a window or a Swing Timer. The simulation is ticked
+ * in a tight loop as fast as the machine allows, which is used for balancing
+ * waves and for regression games on machines without a display.
+ *
+ * Usage: java game.HeadlessSimulation [ticks] [timestep] [threads] [metrics]
+ * where ticks is the maximum amount of ticks to run (default one hour of play),
+ * timestep is the seconds each tick lasts (default 0.016, 0 uses the wall clock),
+ * threads is how many threads to update GameObjects with (default 1)
+ * and metrics is a file to write the FrameMetrics to, as CSV or JSON if it ends with .json.
+ *
+ * @author Kevin Cuellar
+ * @version 10/18/2026
+ */
+public class HeadlessSimulation {
+
+	public static final double DEFAULT_TIMESTEP = Control.SECONDS_PER_TICK;
+
+	private Control control;
+	private State state;
+	private long ticksRun;
+	private long nanosRunning;
+
+	/**
+	 * Constructor - sets up a new game that every tick lasts the given amount of seconds.
+	 *
+	 * @param timestep the seconds each tick lasts, or 0 to use the wall clock
+	 */
+	public HeadlessSimulation(double timestep) {
+		control = new Control(true);
+		state = control.getState();
+		if(timestep > 0)
+			state.setClock(new VirtualClock(timestep));
+	}
+
+	/**
+	 * Runs ticks until the given amount of ticks have run or the game is over.
+	 *
+	 * @param maxTicks the maximum amount of ticks to run
+	 * @return the amount of ticks that were run
+	 */
+	public long run(long maxTicks) {
+		long start = System.nanoTime();
+		long ticks = 0;
+		while(ticks < maxTicks && !state.getIsGameOver()) {
+			control.tick();
+			ticks++;
+		}
+		nanosRunning += System.nanoTime() - start;
+		ticksRun += ticks;
+		return ticks;
+	}
+
+	/**
+	 * Returns the amount of ticks run per real second so far.
+	 *
+	 * @return the amount of ticks run per real second so far
+	 */
+	public double getTicksPerSecond() {
+		if(nanosRunning == 0)
+			return 0;
+		return ticksRun / (nanosRunning / 1_000_000_000.0);
+	}
+
+	/**
+	 * Returns the amount of ticks run so far.
+	 *
+	 * @return the amount of ticks run so far
+	 */
+	public long getTicksRun() {
+		return ticksRun;
+	}
+
+	/**
+	 * Returns the Control of the simulated game.
+	 *
+	 * @return the Control of the simulated game
+	 */
+	public Control getControl() {
+		return control;
+	}
+
+	/**
+	 * Returns the State of the simulated game.
+	 *
+	 * @return the State of the simulated game
+	 */
+	public State getState() {
+		return state;
+	}
+
+	/**
+	* Entry point of the headless simulation.
+	*
+	* @param args optional maximum ticks, seconds per tick, threads and metrics file
+	* @throws IOException if the metrics could not be written
+    */
+	public static void main(String[] args) throws IOException {
+		System.setProperty("java.awt.headless", "true");
+
+		double timestep = DEFAULT_TIMESTEP;
+		long maxTicks = (long)(60 * 60 / DEFAULT_TIMESTEP);
+		if(args.length > 0)
+			maxTicks = Long.parseLong(args[0]);
+		if(args.length > 1)
+			timestep = Double.parseDouble(args[1]);
+
+		HeadlessSimulation sim = new HeadlessSimulation(timestep);
+		if(args.length > 2)
+			sim.getControl().setUpdateThreads(Integer.parseInt(args[2]));
+		sim.run(maxTicks);
+
+		State state = sim.getState();
+		System.out.println("Ticks: " + sim.getTicksRun());
+		System.out.println("Simulated seconds: " + state.getSecondsSinceGameStart());
+		System.out.println("Ticks per second: " + (long)sim.getTicksPerSecond());
+		System.out.println("Money: " + state.getMoney() + " Lives: " + state.getLives() + " Game over: " + state.getIsGameOver());
+		LatencyHistogram ticks = sim.getControl().getMetrics().getPhase(FrameMetrics.TICK);
+		System.out.println("Tick microseconds: p50 " + ticks.getValueAtPercentile(50) / 1000 
+				+ " p99 " + ticks.getValueAtPercentile(99) / 1000 + " max " + ticks.getMax() / 1000);
+		if(args.length > 3) {
+			sim.getControl().getMetrics().countEntities(sim.getControl());
+			sim.getControl().getMetrics().export(new File(args[3]));
+		}
+		sim.getControl().setUpdateThreads(1);
+	}
+}
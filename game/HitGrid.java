@@ -0,0 +1,146 @@
+package game;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A uniform grid over the whole window that every Clickable registers into when it is
+ * made. A click looks up the single cell it landed in instead of going through every
+ * GameObject of the frame, and gets the Clickables under it top-most first: highest
+ * draw priority first, and of equal priorities the one made last, which is also drawn last.
+ *
+ * Clickables that move (like a Tower following the cursor) call update after moving.
+ * Positions outside of the window are clamped to the edge cells.
+ *
+ * Only used from the thread the game ticks on, outside of parallel updates.
+ *
+ * @author Kevin Cuellar
+ * @version 10/18/2026
+ */
+public class HitGrid {
+
+	public static final int WIDTH = 800; //in pixels, the size of the window
+	public static final int HEIGHT = 600;
+	public static final int CELL_SIZE = 50; //in pixels, same size as a tower
+	private static final int COLUMNS = WIDTH / CELL_SIZE;
+	private static final int ROWS = HEIGHT / CELL_SIZE;
+
+	private List<List<Clickable>> cells;
+	private List<Clickable> hits = new ArrayList<>(); //reused by every getHitsAt
+	private long registrations; //how many Clickables were ever added, orders equal priorities
+	private int size;
+
+	/**
+	 * Constructor - creates an empty grid covering the window.
+	 */
+	public HitGrid() {
+		cells = new ArrayList<>(COLUMNS * ROWS);
+		for(int i = 0; i < COLUMNS * ROWS; i++)
+			cells.add(new ArrayList<>());
+	}
+
+	/**
+	 * Adds the Clickable to every cell its bounds overlap.
+	 *
+	 * @param c the Clickable to add
+	 */
+	public void add(Clickable c) {
+		c.hitOrder = registrations++;
+		insert(c);
+		size++;
+	}
+
+	/**
+	 * Removes the Clickable from every cell it was added to. Does nothing if it is not in the grid.
+	 *
+	 * @param c the Clickable to remove
+	 */
+	public void remove(Clickable c) {
+		if(c.hitCells == null)
+			return;
+		erase(c);
+		size--;
+	}
+
+	/**
+	 * Moves the Clickable to the cells its bounds overlap now, call after its bounds changed.
+	 * Does nothing if it is not in the grid.
+	 *
+	 * @param c the Clickable that moved
+	 */
+	public void update(Clickable c) {
+		if(c.hitCells == null)
+			return;
+		Bounds b = c.bounds;
+		int[] old = c.hitCells;
+		if(old[0] == columnOf(b.posX) && old[1] == rowOf(b.posY)
+				&& old[2] == columnOf(b.posX + b.width) && old[3] == rowOf(b.posY + b.height))
+			return; //still in the same cells
+		erase(c);
+		insert(c);
+	}
+
+	/**
+	 * Returns the Clickables whose bounds contain the point, top-most first. Expired
+	 * Clickables are left out. The list is reused by the next call, do not keep or modify it.
+	 *
+	 * @param x the x position of the point
+	 * @param y the y position of the point
+	 * @return the Clickables under the point, top-most first
+	 */
+	public List<Clickable> getHitsAt(int x, int y) {
+		hits.clear();
+		List<Clickable> cell = cells.get(rowOf(y) * COLUMNS + columnOf(x));
+		for(int i = 0; i < cell.size(); i++) {
+			Clickable c = cell.get(i);
+			if(c.isExpired() || !c.contains(x, y))
+				continue;
+			//insertion sort, a cell rarely holds more than a few Clickables
+			int at = hits.size();
+			while(at > 0 && isAbove(c, hits.get(at - 1)))
+				at--;
+			hits.add(at, c);
+		}
+		return hits;
+	}
+
+	/**
+	 * Returns the amount of Clickables in the grid.
+	 *
+	 * @return the amount of Clickables in the grid
+	 */
+	public int size() {
+		return size;
+	}
+
+	private static boolean isAbove(Clickable a, Clickable b) {
+		if(a.drawingPriority != b.drawingPriority)
+			return a.drawingPriority > b.drawingPriority;
+		return a.hitOrder > b.hitOrder;
+	}
+
+	private void insert(Clickable c) {
+		Bounds b = c.bounds;
+		int[] range = {columnOf(b.posX), rowOf(b.posY), columnOf(b.posX + b.width), rowOf(b.posY + b.height)};
+		for(int row = range[1]; row <= range[3]; row++)
+			for(int column = range[0]; column <= range[2]; column++)
+				cells.get(row * COLUMNS + column).add(c);
+		c.hitCells = range;
+	}
+
+	private void erase(Clickable c) {
+		int[] range = c.hitCells;
+		for(int row = range[1]; row <= range[3]; row++)
+			for(int column = range[0]; column <= range[2]; column++)
+				cells.get(row * COLUMNS + column).remove(c);
+		c.hitCells = null;
+	}
+
+	private static int columnOf(int x) {
+		return Math.max(0, Math.min(COLUMNS - 1, Math.floorDiv(x, CELL_SIZE)));
+	}
+
+	private static int rowOf(int y) {
+		return Math.max(0, Math.min(ROWS - 1, Math.floorDiv(y, CELL_SIZE)));
+	}
+}
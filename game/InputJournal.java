@@ -0,0 +1,248 @@
+package game;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * Every input of a game (mouse moves and clicks) with the tick it was applied at, and how
+ * the game stood when recording stopped. Control applies inputs only at the start of a
+ * tick, so feeding the same inputs at the same ticks into a new game with a VirtualClock
+ * of the same step plays out exactly the same game, see Replay.
+ *
+ * The binary format is a header (magic number, version and seconds per tick), the amount
+ * of inputs, every input as tick, kind, x and y, and then the end of the game as tick,
+ * money, lives and waves started.
+ *
+ * Inputs are added on the thread the game ticks on, the journal can be written from any thread.
+ *
+ * @author Kevin Cuellar
+ * @version 10/18/2026
+ */
+public class InputJournal {
+
+	public static final int MAGIC = 0x4A524E4C; //"JRNL"
+	public static final int VERSION = 1;
+
+	public static final byte MOVE = 0; //the mouse moved to x, y
+	public static final byte CLICK = 1; //the mouse was released at x, y
+
+	private final double step; //seconds per tick of the recorded game
+	private int size;
+	private long[] ticks = new long[64];
+	private byte[] kinds = new byte[64];
+	private int[] xs = new int[64];
+	private int[] ys = new int[64];
+
+	private long endTick;
+	private int endMoney;
+	private int endLives;
+	private int endWaves;
+
+	/**
+	 * Constructor - creates an empty journal.
+	 *
+	 * @param step the seconds every tick of the recorded game lasts
+	 */
+	public InputJournal(double step) {
+		this.step = step;
+	}
+
+	/**
+	 * Adds an input, after every input already added.
+	 *
+	 * @param tick the tick the input was applied at, ticks are counted from 0
+	 * @param kind MOVE or CLICK
+	 * @param x the x position of the mouse
+	 * @param y the y position of the mouse
+	 */
+	public synchronized void add(long tick, byte kind, int x, int y) {
+		if(size == ticks.length) {
+			int capacity = size * 2;
+			ticks = Arrays.copyOf(ticks, capacity);
+			kinds = Arrays.copyOf(kinds, capacity);
+			xs = Arrays.copyOf(xs, capacity);
+			ys = Arrays.copyOf(ys, capacity);
+		}
+		ticks[size] = tick;
+		kinds[size] = kind;
+		xs[size] = x;
+		ys[size] = y;
+		size++;
+	}
+
+	/**
+	 * Writes down how the game stands, a replay has to end up the same.
+	 * Called after every tick while recording, the last call counts.
+	 *
+	 * @param tick the amount of ticks run
+	 * @param money the amount of money
+	 * @param lives the amount of lives
+	 * @param waves the amount of waves started
+	 */
+	public synchronized void setEnd(long tick, int money, int lives, int waves) {
+		endTick = tick;
+		endMoney = money;
+		endLives = lives;
+		endWaves = waves;
+	}
+
+	/**
+	 * Writes this journal in the binary format, does not close the stream.
+	 *
+	 * @param out the stream to write to
+	 * @throws IOException if the stream could not be written to
+	 */
+	public synchronized void write(OutputStream out) throws IOException {
+		DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+		data.writeInt(MAGIC);
+		data.writeInt(VERSION);
+		data.writeDouble(step);
+		data.writeInt(size);
+		for(int i = 0; i < size; i++) {
+			data.writeLong(ticks[i]);
+			data.writeByte(kinds[i]);
+			data.writeInt(xs[i]);
+			data.writeInt(ys[i]);
+		}
+		data.writeLong(endTick);
+		data.writeInt(endMoney);
+		data.writeInt(endLives);
+		data.writeInt(endWaves);
+		data.flush();
+	}
+
+	/**
+	 * Reads a journal in the binary format from a stream, does not close it.
+	 *
+	 * @param in the stream to read from
+	 * @return the journal read
+	 * @throws IOException if the stream could not be read or is not a journal of a known version
+	 */
+	public static InputJournal read(InputStream in) throws IOException {
+		DataInputStream data = new DataInputStream(in instanceof BufferedInputStream ? in : new BufferedInputStream(in));
+		if(data.readInt() != MAGIC)
+			throw new IOException("Not an input journal");
+		int version = data.readInt();
+		if(version != VERSION)
+			throw new IOException("Unknown input journal version " + version);
+		double step = data.readDouble();
+		if(!(step > 0))
+			throw new IOException("Bad seconds per tick " + step);
+
+		InputJournal journal = new InputJournal(step);
+		int amount = data.readInt();
+		if(amount < 0)
+			throw new IOException("Negative amount of inputs " + amount);
+		long lastTick = 0;
+		for(int i = 0; i < amount; i++) {
+			long tick = data.readLong();
+			byte kind = data.readByte();
+			if(tick < lastTick || (kind != MOVE && kind != CLICK))
+				throw new IOException("Bad input " + i + " in journal");
+			journal.add(tick, kind, data.readInt(), data.readInt());
+			lastTick = tick;
+		}
+		journal.setEnd(data.readLong(), data.readInt(), data.readInt(), data.readInt());
+		return journal;
+	}
+
+	/**
+	 * Returns the seconds every tick of the recorded game lasts.
+	 *
+	 * @return the seconds per tick
+	 */
+	public double getStep() {
+		return step;
+	}
+
+	/**
+	 * Returns the amount of inputs.
+	 *
+	 * @return the amount of inputs
+	 */
+	public synchronized int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the tick an input was applied at.
+	 *
+	 * @param i the index of the input, in the order they were added
+	 * @return the tick, counted from 0
+	 */
+	public synchronized long getTick(int i) {
+		return ticks[i];
+	}
+
+	/**
+	 * Returns the kind of an input.
+	 *
+	 * @param i the index of the input, in the order they were added
+	 * @return MOVE or CLICK
+	 */
+	public synchronized byte getKind(int i) {
+		return kinds[i];
+	}
+
+	/**
+	 * Returns the x position of the mouse of an input.
+	 *
+	 * @param i the index of the input, in the order they were added
+	 * @return the x position
+	 */
+	public synchronized int getX(int i) {
+		return xs[i];
+	}
+
+	/**
+	 * Returns the y position of the mouse of an input.
+	 *
+	 * @param i the index of the input, in the order they were added
+	 * @return the y position
+	 */
+	public synchronized int getY(int i) {
+		return ys[i];
+	}
+
+	/**
+	 * Returns the amount of ticks the recorded game ran.
+	 *
+	 * @return the amount of ticks
+	 */
+	public synchronized long getEndTick() {
+		return endTick;
+	}
+
+	/**
+	 * Returns the money at the end of the recorded game.
+	 *
+	 * @return the amount of money
+	 */
+	public synchronized int getEndMoney() {
+		return endMoney;
+	}
+
+	/**
+	 * Returns the lives at the end of the recorded game.
+	 *
+	 * @return the amount of lives
+	 */
+	public synchronized int getEndLives() {
+		return endLives;
+	}
+
+	/**
+	 * Returns the waves started at the end of the recorded game.
+	 *
+	 * @return the amount of waves started
+	 */
+	public synchronized int getEndWaves() {
+		return endWaves;
+	}
+}
@@ -0,0 +1,127 @@
+package game;
+
+import java.util.Arrays;
+
+/**
+ * Counts recorded values (like nanoseconds a tick took) in buckets that get wider as the
+ * values get bigger, in the style of an HdrHistogram: every power of two is split into 64
+ * equal sub-buckets, so any value is known to within about 1.6% whether it is 500 nanoseconds
+ * or 5 seconds. Recording is a few shifts and one increment, and never allocates.
+ *
+ * Percentiles are answered with the highest value of the bucket they fall in, so a
+ * reported p99 is never lower than the real one.
+ *
+ * Not thread safe, record and read from one thread.
+ *
+ * @author Kevin Cuellar
+ * @version 10/18/2026
+ */
+public class LatencyHistogram {
+
+	private static final int SUB_BUCKET_BITS = 7;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS; //values below this get a bucket each
+	private static final int HALF = SUB_BUCKETS / 2; //sub-buckets of every power of two above that
+	private static final int BUCKETS = indexOf(Long.MAX_VALUE) + 1;
+
+	private final long[] counts = new long[BUCKETS];
+	private long count;
+	private long sum;
+	private long min = Long.MAX_VALUE;
+	private long max;
+
+	/**
+	 * Counts a value.
+	 *
+	 * @param value the value, negative values count as 0
+	 */
+	public void record(long value) {
+		if(value < 0)
+			value = 0;
+		counts[indexOf(value)]++;
+		count++;
+		sum += value;
+		min = Math.min(min, value);
+		max = Math.max(max, value);
+	}
+
+	/**
+	 * Returns the value that the given percentage of the recorded values are at or below.
+	 *
+	 * @param percentile from 0 to 100, like 99 for the p99
+	 * @return the highest value of the bucket the percentile falls in, at most the max, 0 if nothing was recorded
+	 */
+	public long getValueAtPercentile(double percentile) {
+		if(count == 0)
+			return 0;
+		long rank = Math.max(1, (long)Math.ceil(Math.min(percentile, 100) / 100 * count));
+		long seen = 0;
+		for(int i = 0; i < BUCKETS; i++) {
+			seen += counts[i];
+			if(seen >= rank)
+				return Math.min(highestInBucket(i), max);
+		}
+		return max;
+	}
+
+	/**
+	 * Returns the amount of values recorded.
+	 *
+	 * @return the amount of values
+	 */
+	public long getCount() {
+		return count;
+	}
+
+	/**
+	 * Returns the average of the recorded values.
+	 *
+	 * @return the average, 0 if nothing was recorded
+	 */
+	public double getMean() {
+		return count == 0 ? 0 : sum / (double)count;
+	}
+
+	/**
+	 * Returns the lowest recorded value.
+	 *
+	 * @return the lowest value, 0 if nothing was recorded
+	 */
+	public long getMin() {
+		return count == 0 ? 0 : min;
+	}
+
+	/**
+	 * Returns the highest recorded value.
+	 *
+	 * @return the highest value, 0 if nothing was recorded
+	 */
+	public long getMax() {
+		return max;
+	}
+
+	/**
+	 * Forgets every recorded value.
+	 */
+	public void reset() {
+		Arrays.fill(counts, 0);
+		count = 0;
+		sum = 0;
+		min = Long.MAX_VALUE;
+		max = 0;
+	}
+
+	private static int indexOf(long value) {
+		if(value < SUB_BUCKETS)
+			return (int)value;
+		int shift = 63 - Long.numberOfLeadingZeros(value) - (SUB_BUCKET_BITS - 1);
+		return shift * HALF + (int)(value >>> shift);
+	}
+
+	private static long highestInBucket(int index) {
+		if(index < SUB_BUCKETS)
+			return index;
+		int shift = index / HALF - 1;
+		long highest = ((long)(index - shift * HALF) << shift) + (1L << shift) - 1;
+		return highest < 0 ? Long.MAX_VALUE : highest; //the last buckets go past Long.MAX_VALUE
+	}
+}
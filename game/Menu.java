@@ -2,7 +2,6 @@ package game;
 
 import java.awt.Color;
 import java.awt.Font;
-import java.awt.Graphics;
 
 /**
  * Draws the menu over which towers are chosen, lives and money are displayed,
@@ -13,6 +12,16 @@ import java.awt.Graphics;
  */
 public class Menu extends GameObject {
 
+	private static final Color OVERLAY_COLOR = new Color(165, 210, 232, 230);
+	private static final Font FONT = new Font("", Font.BOLD, 30);
+	
+	private int shownLives; //what was drawn last, to know when to draw again
+	private int shownMoney;
+	private String livesText; //built again only when the lives change
+	private String moneyText;
+	private int livesInText;
+	private int moneyInText;
+
 	/**
 	* Constructor that initiates this Menu with a state and a control
 	* 
@@ -25,32 +34,48 @@ public class Menu extends GameObject {
 	}
 
     /**
-     * Does nothing --- the menu is static
+     * Marks the lives and money as needing to be drawn again when they change.
      * 
      * @param timeElapsed the time elapsed from the start of the game
      */
 	@Override
 	public void update(double timeElapsed) {
-		//nothing --- the Menu doesn't update
+		if(shownLives != state.getLives() || shownMoney != state.getMoney()) {
+			shownLives = state.getLives();
+			shownMoney = state.getMoney();
+			state.markDirty(600, 35, 200, 75);
+		}
 	}
 
     /**
-     * Draws the Menu onto the screen.
+     * Draws the crazy frog and the overlay, which never change.
      * 
-     * @param g the Graphics object to draw to
+     * @param list the RenderList to record into
      */
 	@Override
-	public void draw(Graphics g) {
-		//draw crazy frog and overlay
-		g.drawImage(control.getImage("crazifrog.PNG"), 600, 0, 200, 600, null);
-		g.setColor(new Color(165, 210, 232, 230));
-		g.fillRect(600, 0, 200, 600);
-		
+	public void drawStatic(RenderList list) {
+		list.drawImage(control.getSprite("crazifrog.PNG", 200, 600), 600, 0);
+		list.fillRect(OVERLAY_COLOR, 600, 0, 200, 600);
+	}
+
+    /**
+     * Draws the lives and money onto the screen.
+     * 
+     * @param list the RenderList to record into
+     */
+	@Override
+	public void draw(RenderList list) {
 		//LIVES + MONEY
-		g.setColor(Color.BLACK);
-		g.setFont(new Font("", Font.BOLD, 30));
-		g.drawString("LIVES: " + state.getLives() , 610, 100);
-		g.drawString("MONEY: " + state.getMoney() , 610, 70);
+		if(livesText == null || livesInText != state.getLives()) {
+			livesInText = state.getLives();
+			livesText = "LIVES: " + livesInText;
+		}
+		if(moneyText == null || moneyInText != state.getMoney()) {
+			moneyInText = state.getMoney();
+			moneyText = "MONEY: " + moneyInText;
+		}
+		list.drawString(livesText, FONT, Color.BLACK, 610, 100);
+		list.drawString(moneyText, FONT, Color.BLACK, 610, 70);
 		
 	}
 
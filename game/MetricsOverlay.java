@@ -0,0 +1,99 @@
+package game;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.util.Map;
+
+/**
+ * Shows the FrameMetrics of the game in the bottom right corner: the p50, p99 and max
+ * of every phase, the bytes allocated per tick, and how many GameObjects and enemies
+ * there are. The text is only made again twice a second, so the overlay itself barely
+ * shows up in what it measures.
+ *
+ * Turned on and off with Control.setMetricsOverlay.
+ *
+ * @author Kevin Cuellar
+ * @version 10/18/2026
+ */
+public class MetricsOverlay extends GameObject {
+
+	private static final Color BACKGROUND_COLOR = new Color(0, 0, 0, 170);
+	private static final Font FONT = new Font(Font.MONOSPACED, Font.PLAIN, 11);
+	private static final int X = 605;
+	private static final int Y = 435;
+	private static final int WIDTH = 190;
+	private static final int HEIGHT = 160;
+	private static final int LINE_HEIGHT = 13;
+	private static final int REFRESH_TICKS = 30;
+
+	private String[] lines = new String[0];
+	private int ticksUntilRefresh;
+
+	/**
+	* Constructor that initiates this MetricsOverlay with a state and a control
+	*
+	* @param state the State object of the game
+    * @param control the Control object of the game
+    */
+	public MetricsOverlay(State state, Control control) {
+		super(state, control, 10_000_000);
+		isVisible = true;
+	}
+
+    /**
+     * Makes the text again from the newest metrics every REFRESH_TICKS ticks.
+     *
+     * @param timeElapsed the time elapsed from the start of the game
+     */
+	@Override
+	public void update(double timeElapsed) {
+		if(--ticksUntilRefresh > 0)
+			return;
+		ticksUntilRefresh = REFRESH_TICKS;
+
+		FrameMetrics metrics = control.getMetrics();
+		metrics.countEntities(control);
+		int entities = 0;
+		int enemies = 0;
+		for(Map.Entry<String, Integer> e : metrics.getEntityCounts().entrySet()) {
+			if(e.getKey().startsWith("enemy."))
+				enemies += e.getValue();
+			else
+				entities += e.getValue();
+		}
+
+		int phases = FrameMetrics.getPhaseCount();
+		lines = new String[phases + 3];
+		lines[0] = String.format("%-11s %5s %5s %5s", "ms", "p50", "p99", "max");
+		for(int i = 0; i < phases; i++) {
+			LatencyHistogram h = metrics.getPhase(i);
+			lines[i + 1] = String.format("%-11s %5.2f %5.2f %5.2f", FrameMetrics.getPhaseName(i),
+					h.getValueAtPercentile(50) / 1e6, h.getValueAtPercentile(99) / 1e6, h.getMax() / 1e6);
+		}
+		LatencyHistogram allocated = metrics.getAllocations();
+		lines[phases + 1] = String.format("%-11s %5.1f %5.1f %5.1f", "alloc KB",
+				allocated.getValueAtPercentile(50) / 1024.0, allocated.getValueAtPercentile(99) / 1024.0, allocated.getMax() / 1024.0);
+		lines[phases + 2] = "objects " + entities + " enemies " + enemies;
+		state.markDirty(X, Y, WIDTH, HEIGHT);
+	}
+
+    /**
+     * Draws the text on a dark box.
+     *
+     * @param list the RenderList to record into
+     */
+	@Override
+	public void draw(RenderList list) {
+		list.fillRect(BACKGROUND_COLOR, X, Y, WIDTH, HEIGHT);
+		for(int i = 0; i < lines.length; i++)
+			list.drawString(lines[i], FONT, Color.WHITE, X + 5, Y + 15 + i * LINE_HEIGHT);
+	}
+
+    /**
+     * Marks where the overlay was drawn.
+     */
+	@Override
+	protected void onRemoved() {
+		state.markDirty(X, Y, WIDTH, HEIGHT);
+	}
+}
@@ -0,0 +1,153 @@
+package game;
+
+import java.util.ArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Updates the GameObjects of a frame across several cores with a ForkJoinPool.
+ * 
+ * An update goes in phases:
+ * 1. The enemies move, split into ranges of slots, then finished enemies are removed.
+ * 2. The GameObjects that cannot update in parallel and are drawn below the last one that can
+ *    (like the EnemySender) are updated one after the other, in drawing order, so towers see
+ *    the enemies they spawn just like when updating on one thread.
+ * 3. The TargetingIndex is taken so towers can share it.
+ * 4. GameObjects that canUpdateInParallel are split into fixed groups and updated in parallel,
+ *    each group writing into its own TickBuffer.
+ * 5. The rest of the GameObjects are updated one after the other, in drawing order.
+ * 6. The TickBuffers are applied in group order.
+ * 
+ * The groups only depend on the amount of GameObjects, so the same frame always
+ * produces the same result no matter how the threads are scheduled.
+ * 
+ * @author Kevin Cuellar
+ * @version 10/18/2026
+ */
+public class ParallelUpdater {
+	
+	private static final int OBJECTS_PER_TASK = 64;
+	private static final int SLOTS_PER_TASK = 4096;
+	
+	private final ForkJoinPool pool;
+	private final ArrayList<GameObject> parallelObjects = new ArrayList<>();
+	private final ArrayList<GameObject> serialObjects = new ArrayList<>();
+	private final ArrayList<TickBuffer> buffers = new ArrayList<>();
+	private int[] livesLost = new int[1]; //by task of phase 1, grown when there are more tasks
+	
+	/**
+	 * Constructor - creates an updater with its own pool of threads.
+	 * 
+	 * @param threads how many threads to update with
+	 */
+	public ParallelUpdater(int threads) {
+		pool = new ForkJoinPool(threads);
+	}
+	
+	/**
+	 * Updates every GameObject of the current frame.
+	 * 
+	 * @param state the State of the game
+	 * @param enemies the pool of enemies of the game
+	 */
+	public void update(State state, EnemyPool enemies) {
+		double time = state.getSecondsSinceGameStart();
+		
+		//phase 1
+		int slots = enemies.getSlotLimit();
+		int enemyTasks = (slots + SLOTS_PER_TASK - 1) / SLOTS_PER_TASK;
+		if(livesLost.length < enemyTasks)
+			livesLost = new int[enemyTasks];
+		int[] lost = livesLost;
+		double elapsed = state.getElapsedTime();
+		pool.invoke(new RangeTask(0, enemyTasks, (task) -> 
+			lost[task] = enemies.move(task * SLOTS_PER_TASK, Math.min(slots, (task + 1) * SLOTS_PER_TASK), elapsed)));
+		int totalLivesLost = 0;
+		for(int task = 0; task < enemyTasks; task++)
+			totalLivesLost += lost[task];
+		enemies.removeFinished(totalLivesLost);
+		
+		//phase 2
+		parallelObjects.clear();
+		serialObjects.clear();
+		int serialBefore = 0; //how many serial objects are drawn below the last parallel one
+		for(GameObject go : state.getFrameObjects()) {
+			if(go == enemies)
+				continue;
+			if(go.canUpdateInParallel()) {
+				parallelObjects.add(go);
+				serialBefore = serialObjects.size();
+			} else {
+				serialObjects.add(go);
+			}
+		}
+		for(int i = 0; i < serialBefore; i++)
+			serialObjects.get(i).update(time);
+		
+		//phase 3 and 4
+		enemies.getTargets();
+		int objectTasks = (parallelObjects.size() + OBJECTS_PER_TASK - 1) / OBJECTS_PER_TASK;
+		while(buffers.size() < objectTasks)
+			buffers.add(new TickBuffer());
+		pool.invoke(new RangeTask(0, objectTasks, (task) -> {
+			buffers.get(task).bind();
+			try {
+				int end = Math.min(parallelObjects.size(), (task + 1) * OBJECTS_PER_TASK);
+				for(int i = task * OBJECTS_PER_TASK; i < end; i++)
+					parallelObjects.get(i).update(time);
+			} finally {
+				TickBuffer.unbind();
+			}
+		}));
+		
+		//phase 5
+		for(int i = serialBefore; i < serialObjects.size(); i++)
+			serialObjects.get(i).update(time);
+		
+		//phase 6
+		for(int task = 0; task < objectTasks; task++)
+			buffers.get(task).applyTo(state);
+	}
+	
+	/**
+	 * Stops the threads of this updater.
+	 */
+	public void shutdown() {
+		pool.shutdown();
+	}
+	
+	/**
+	 * Runs a piece of work for each task number in a range, splitting the range in half
+	 * until there is one task left.
+	 */
+	private static class RangeTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+		private final int from, to;
+		private final TaskBody body;
+		
+		RangeTask(int from, int to, TaskBody body) {
+			this.from = from;
+			this.to = to;
+			this.body = body;
+		}
+		
+		@Override
+		protected void compute() {
+			if(to - from <= 1) {
+				if(to > from)
+					body.run(from);
+				return;
+			}
+			int mid = (from + to) >>> 1;
+			invokeAll(new RangeTask(from, mid, body), new RangeTask(mid, to, body));
+		}
+	}
+	
+	/**
+	 * The work done for one task number.
+	 */
+	@FunctionalInterface
+	private interface TaskBody {
+		void run(int task);
+	}
+}
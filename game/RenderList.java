@@ -0,0 +1,262 @@
+package game;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+
+/**
+ * Everything one frame draws, written down as a flat list of draw commands (which image,
+ * color or text, where, how big and on which layer) instead of being drawn straight onto
+ * a Graphics object. GameObjects record themselves into a RenderList at the end of a tick,
+ * then the list is handed to the View through a RenderRing, so the View never has to call
+ * back into live GameObjects while they are being updated.
+ *
+ * A RenderList is only written by the simulation and only read by the View once published.
+ * The arrays are kept and reused when the list is recorded again.
+ *
+ * @author Kevin Cuellar
+ * @version 10/18/2026
+ */
+public class RenderList {
+
+	public static final byte STATIC = 0; //drawn once into the View's cached layer
+	public static final byte DYNAMIC = 1; //drawn every frame on top of the static layer
+
+	private static final byte IMAGE = 0;
+	private static final byte FILL_RECT = 1;
+	private static final byte FILL_ROUND_RECT = 2;
+	private static final byte TEXT = 3;
+
+	private int size;
+	private byte[] kinds = new byte[64];
+	private byte[] layers = new byte[64];
+	private int[] xs = new int[64];
+	private int[] ys = new int[64];
+	private int[] toXs = new int[64]; //where a moving image is drawn after the tick, xs and ys are before
+	private int[] toYs = new int[64];
+	private int[] widths = new int[64]; //rectangles only, images are drawn at their own size
+	private int[] heights = new int[64];
+	private int[] arcs = new int[64];
+	private BufferedImage[] images = new BufferedImage[64];
+	private Color[] colors = new Color[64];
+	private Font[] fonts = new Font[64];
+	private String[] texts = new String[64];
+
+	private byte layer = DYNAMIC; //layer of the next command
+	private Rectangle dirtyRegion = new Rectangle();
+	private int staticVersion;
+	private long recordedNanos;
+	private double step; //seconds per tick, 0 when moving images should not be drawn in between
+	private double stepProgress; //Clock.getStepProgress when recorded
+
+	/**
+	 * Empties the list so a new frame can be recorded into it.
+	 *
+	 * @param staticVersion which version of the static layer is recorded, see State.getStaticVersion
+	 * @param step the seconds each tick lasts, or 0 to always draw moving images where they are after the tick
+	 * @param stepProgress how far the Clock is into the next tick, see Clock.getStepProgress
+	 */
+	void begin(int staticVersion, double step, double stepProgress) {
+		size = 0;
+		layer = DYNAMIC;
+		dirtyRegion.setBounds(0, 0, 0, 0);
+		this.staticVersion = staticVersion;
+		this.step = step;
+		this.stepProgress = stepProgress;
+		recordedNanos = System.nanoTime();
+	}
+
+	/**
+	 * Sets the layer the following commands are recorded on.
+	 *
+	 * @param layer STATIC or DYNAMIC
+	 */
+	void setLayer(byte layer) {
+		this.layer = layer;
+	}
+
+	/**
+	 * Records an image drawn with its top left corner at the given position.
+	 *
+	 * @param image the image, from Control.getSprite
+	 * @param x the x position
+	 * @param y the y position
+	 */
+	public void drawImage(BufferedImage image, int x, int y) {
+		drawImage(image, x, y, x, y);
+	}
+
+	/**
+	 * Records an image that moved during the tick. Depending on when the View draws,
+	 * it is drawn somewhere on the line between the two positions.
+	 *
+	 * @param image the image, from Control.getSprite
+	 * @param fromX the x position before the tick
+	 * @param fromY the y position before the tick
+	 * @param toX the x position after the tick
+	 * @param toY the y position after the tick
+	 */
+	public void drawImage(BufferedImage image, int fromX, int fromY, int toX, int toY) {
+		int i = add(IMAGE, fromX, fromY);
+		toXs[i] = toX;
+		toYs[i] = toY;
+		images[i] = image;
+	}
+
+	/**
+	 * Records a filled rectangle.
+	 *
+	 * @param color the color to fill with, may be translucent
+	 * @param x the x position
+	 * @param y the y position
+	 * @param width the width
+	 * @param height the height
+	 */
+	public void fillRect(Color color, int x, int y, int width, int height) {
+		int i = add(FILL_RECT, x, y);
+		widths[i] = width;
+		heights[i] = height;
+		colors[i] = color;
+	}
+
+	/**
+	 * Records a filled rectangle with round corners.
+	 *
+	 * @param color the color to fill with, may be translucent
+	 * @param x the x position
+	 * @param y the y position
+	 * @param width the width
+	 * @param height the height
+	 * @param arc the width and height of the arcs at the corners
+	 */
+	public void fillRoundRect(Color color, int x, int y, int width, int height, int arc) {
+		int i = add(FILL_ROUND_RECT, x, y);
+		widths[i] = width;
+		heights[i] = height;
+		arcs[i] = arc;
+		colors[i] = color;
+	}
+
+	/**
+	 * Records a line of text.
+	 *
+	 * @param text the text, should not be built again every tick if it did not change
+	 * @param font the font
+	 * @param color the color
+	 * @param x the x position of the start of the text
+	 * @param y the y position of the baseline of the text
+	 */
+	public void drawString(String text, Font font, Color color, int x, int y) {
+		int i = add(TEXT, x, y);
+		texts[i] = text;
+		fonts[i] = font;
+		colors[i] = color;
+	}
+
+	/**
+	 * Draws every command on a layer, in the order they were recorded.
+	 *
+	 * @param g the Graphics object to draw to
+	 * @param drawnLayer STATIC or DYNAMIC
+	 * @param alpha how far moving images are drawn from their position before the tick
+	 *        to their position after it, from 0 to 1, see getAlpha
+	 */
+	public void paint(Graphics g, byte drawnLayer, double alpha) {
+		for(int i = 0; i < size; i++) {
+			if(layers[i] != drawnLayer)
+				continue;
+			switch(kinds[i]) {
+			case IMAGE:
+				int x = xs[i] + (int)((toXs[i] - xs[i]) * alpha);
+				int y = ys[i] + (int)((toYs[i] - ys[i]) * alpha);
+				g.drawImage(images[i], x, y, null);
+				break;
+			case FILL_RECT:
+				g.setColor(colors[i]);
+				g.fillRect(xs[i], ys[i], widths[i], heights[i]);
+				break;
+			case FILL_ROUND_RECT:
+				g.setColor(colors[i]);
+				g.fillRoundRect(xs[i], ys[i], widths[i], heights[i], arcs[i], arcs[i]);
+				break;
+			case TEXT:
+				g.setColor(colors[i]);
+				g.setFont(fonts[i]);
+				g.drawString(texts[i], xs[i], ys[i]);
+				break;
+			}
+		}
+	}
+
+	/**
+	 * Returns how far moving images should be drawn between their positions before and
+	 * after the tick, based on how much real time passed since this list was recorded.
+	 *
+	 * @param nowNanos the current System.nanoTime
+	 * @return how far to draw moving images, from 0 to 1
+	 */
+	public double getAlpha(long nowNanos) {
+		if(step <= 0)
+			return 1.0;
+		return Math.min(stepProgress + (nowNanos - recordedNanos) / 1_000_000_000.0 / step, 1.0);
+	}
+
+	/**
+	 * Returns the area that changed since the list before was recorded. Only written while recording.
+	 *
+	 * @return the area that changed
+	 */
+	public Rectangle getDirtyRegion() {
+		return dirtyRegion;
+	}
+
+	/**
+	 * Returns which version of the static layer this list holds, the View draws
+	 * its static layer again when this changes.
+	 *
+	 * @return the version of the static layer
+	 */
+	public int getStaticVersion() {
+		return staticVersion;
+	}
+
+	/**
+	 * Returns the amount of commands recorded.
+	 *
+	 * @return the amount of commands recorded
+	 */
+	public int size() {
+		return size;
+	}
+
+	private int add(byte kind, int x, int y) {
+		if(size == kinds.length)
+			grow();
+		int i = size++;
+		kinds[i] = kind;
+		layers[i] = layer;
+		xs[i] = x;
+		ys[i] = y;
+		return i;
+	}
+
+	private void grow() {
+		int capacity = kinds.length * 2;
+		kinds = Arrays.copyOf(kinds, capacity);
+		layers = Arrays.copyOf(layers, capacity);
+		xs = Arrays.copyOf(xs, capacity);
+		ys = Arrays.copyOf(ys, capacity);
+		toXs = Arrays.copyOf(toXs, capacity);
+		toYs = Arrays.copyOf(toYs, capacity);
+		widths = Arrays.copyOf(widths, capacity);
+		heights = Arrays.copyOf(heights, capacity);
+		arcs = Arrays.copyOf(arcs, capacity);
+		images = Arrays.copyOf(images, capacity);
+		colors = Arrays.copyOf(colors, capacity);
+		fonts = Arrays.copyOf(fonts, capacity);
+		texts = Arrays.copyOf(texts, capacity);
+	}
+}
@@ -0,0 +1,72 @@
+package game;
+
+import java.awt.Rectangle;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Three RenderLists passed around between the simulation and the View without locks.
+ * At any time the simulation owns one list to record into, the View owns one list to
+ * draw from, and the third is the newest published list waiting to be picked up.
+ * Publishing and picking up swap a list with the waiting one in a single atomic step,
+ * so neither side ever waits for the other or sees a list that is half recorded.
+ *
+ * If the simulation publishes again before the View picked up the waiting list, the waiting
+ * list is recorded over. Its dirty region is carried into the newer list so nothing is missed.
+ *
+ * @author Kevin Cuellar
+ * @version 10/18/2026
+ */
+public class RenderRing {
+
+	private static final int INDEX = 0b11; //which list is waiting
+	private static final int IS_NEW = 0b100; //set when the waiting list was not picked up yet
+
+	private final RenderList[] lists = {new RenderList(), new RenderList(), new RenderList()};
+	private final AtomicInteger waiting = new AtomicInteger(2);
+	private int recording = 0; //only used by the simulation
+	private int drawing = 1; //only used by the View
+
+	/**
+	 * Returns the list to record the next frame into. Only call from the simulation.
+	 *
+	 * @return the list to record into
+	 */
+	public RenderList getRecording() {
+		return lists[recording];
+	}
+
+	/**
+	 * Hands the recorded list over to the View and takes a free list to record into next.
+	 * Only call from the simulation.
+	 */
+	public void publish() {
+		int current = waiting.get();
+		if((current & IS_NEW) != 0) {
+			//the View has not drawn the waiting list, it may still pick it up but if not its area has to be drawn too
+			Rectangle missed = lists[current & INDEX].getDirtyRegion();
+			State.union(lists[recording].getDirtyRegion(), missed.x, missed.y, missed.width, missed.height);
+		}
+		recording = waiting.getAndSet(recording | IS_NEW) & INDEX;
+	}
+
+	/**
+	 * Picks up the newest published list if there is one. Only call from the View.
+	 *
+	 * @return whether a new list was picked up
+	 */
+	public boolean pickUp() {
+		if((waiting.get() & IS_NEW) == 0)
+			return false;
+		drawing = waiting.getAndSet(drawing) & INDEX;
+		return true;
+	}
+
+	/**
+	 * Returns the list the View draws from, the one picked up last. Only call from the View.
+	 *
+	 * @return the list to draw
+	 */
+	public RenderList getDrawing() {
+		return lists[drawing];
+	}
+}
@@ -0,0 +1,119 @@
+package game;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Plays a recorded InputJournal back without a window, as fast as the machine allows.
+ * Every input is applied at the start of the tick it was recorded at, then the game has to
+ * end up with the same money, lives and waves as the recorded game did. Used to reproduce
+ * bugs from real games and to measure tick performance on real games.
+ *
+ * Usage: java game.Replay journal [threads]
+ * where journal is a file recorded with java game.TowerDefense journal
+ * and threads is how many threads to update GameObjects with (default 1).
+ *
+ * @author Kevin Cuellar
+ * @version 10/18/2026
+ */
+public class Replay {
+
+	private InputJournal journal;
+	private Control control;
+	private State state;
+	private long nanosRunning;
+
+	/**
+	 * Constructor - sets up a new game to play the journal back into.
+	 *
+	 * @param journal the recorded inputs
+	 */
+	public Replay(InputJournal journal) {
+		this.journal = journal;
+		control = new Control(true);
+		state = control.getState();
+		state.setClock(new VirtualClock(journal.getStep()));
+	}
+
+	/**
+	 * Runs every tick of the recorded game, applying the inputs at their ticks.
+	 */
+	public void run() {
+		long start = System.nanoTime();
+		int input = 0;
+		for(long tick = 0; tick < journal.getEndTick(); tick++) {
+			while(input < journal.size() && journal.getTick(input) == tick) {
+				control.queueInput(journal.getKind(input), journal.getX(input), journal.getY(input));
+				input++;
+			}
+			control.tick();
+		}
+		nanosRunning += System.nanoTime() - start;
+	}
+
+	/**
+	 * Returns whether the game ended up like the recorded game.
+	 *
+	 * @return whether money, lives and waves started are the same as recorded
+	 */
+	public boolean matches() {
+		return state.getMoney() == journal.getEndMoney()
+				&& state.getLives() == journal.getEndLives()
+				&& control.getEnemySender().getWavesStarted() == journal.getEndWaves();
+	}
+
+	/**
+	 * Returns the amount of ticks run per real second.
+	 *
+	 * @return the amount of ticks run per real second
+	 */
+	public double getTicksPerSecond() {
+		if(nanosRunning == 0)
+			return 0;
+		return journal.getEndTick() / (nanosRunning / 1_000_000_000.0);
+	}
+
+	/**
+	 * Returns the Control of the replayed game.
+	 *
+	 * @return the Control of the replayed game
+	 */
+	public Control getControl() {
+		return control;
+	}
+
+	/**
+	* Entry point of the replay. Exits with 1 if the game did not end up like the recorded one.
+	*
+	* @param args the journal file and optionally the amount of threads
+    */
+	public static void main(String[] args) throws IOException {
+		System.setProperty("java.awt.headless", "true");
+		if(args.length < 1) {
+			System.out.println("Usage: java game.Replay journal [threads]");
+			System.exit(2);
+		}
+
+		InputJournal journal;
+		try(InputStream in = new FileInputStream(new File(args[0]))) {
+			journal = InputJournal.read(in);
+		}
+		Replay replay = new Replay(journal);
+		if(args.length > 1)
+			replay.getControl().setUpdateThreads(Integer.parseInt(args[1]));
+		replay.run();
+		replay.getControl().setUpdateThreads(1);
+
+		State state = replay.state;
+		int waves = replay.getControl().getEnemySender().getWavesStarted();
+		System.out.println("Ticks: " + journal.getEndTick() + " Inputs: " + journal.size());
+		System.out.println("Ticks per second: " + (long)replay.getTicksPerSecond());
+		System.out.println("Recorded: Money: " + journal.getEndMoney() + " Lives: " + journal.getEndLives() + " Waves: " + journal.getEndWaves());
+		System.out.println("Replayed: Money: " + state.getMoney() + " Lives: " + state.getLives() + " Waves: " + waves);
+		System.out.println(replay.matches() ? "Replay matches" : "Replay DIFFERS");
+		if(!replay.matches())
+			System.exit(1);
+	}
+}
@@ -1,9 +1,5 @@
 package game;
 
-import java.awt.Graphics;
-import java.awt.Point;
-
-import path.Path;
 
 /**
  * Draws a SaltCatapult originally has to be clicked on from the TowerButton
@@ -17,7 +13,7 @@ import path.Path;
 public class SaltCatapult extends Tower {
 	
 
-	private boolean midHasPassed; //measured every time timeInBlock is at its middle, a point in time, which is speed/2
+	boolean midHasPassed; //measured every time timeInBlock is at its middle, a point in time, which is speed/2
 	private static final int HOW_FAST_CAN_IT_GO = 30; //don't mess with this, fined tuned.
 	
 	
@@ -33,6 +29,7 @@ public class SaltCatapult extends Tower {
 	public SaltCatapult(State state, Control control, int x, int y) {
 		super(state, control, 100000, new Bounds(50, 50, x, y, -25, -25), "catapult.png", 0, 10);
 		this.damage = 3;
+		this.targeting = Targeting.FARTHEST;
 	}
 
 	/**
@@ -49,26 +46,13 @@ public class SaltCatapult extends Tower {
 		if(!midHasPassed && (int)timeInBlock == (int)(speed/2.0)) {
 			midHasPassed = true;
 			
-			//find closest Enemy
-			Enemy closest = null;
-			Point position = null;
-			double distance = 0;
+			//find an Enemy to aim for
+			TargetingIndex targets = control.getEnemies().getTargets();
+			int target = targets.select(targeting, bounds.posX, bounds.posY, range);
 			
-			for(GameObject go : state.getFrameObjects()) {
-				if(go instanceof Enemy) {
-					Enemy en = (Enemy)go;
-					Point p = control.getPath().convertToCoordinates(en.percentage);
-					double d = Path.distanceFormula(bounds.posX, bounds.posY, p.x, p.y);
-					if(d >= distance) {
-						distance = d;
-						position = p;
-						closest = en;
-					}
-				}
-			}
 			//we did find an Enemy
-			if(closest != null) {
-				SnowBall sb = new SnowBall(state, control, bounds.posX, bounds.posY, position, closest, damage);
+			if(target != -1) {
+				SnowBall sb = SnowBall.obtain(state, control, bounds.posX, bounds.posY, targets.getX(target), targets.getY(target), targets.getSlot(target), damage);
 				state.addGameObject(sb);
 			}
 				
@@ -84,11 +68,11 @@ public class SaltCatapult extends Tower {
 	/**
 	 * called once Tower does its draw. DO NOT OVERRIDE TOWER'S DRAW METHOD
 	 * 
-	 * @param g the Graphics object to draw to
+	 * @param list the RenderList to record into
 	 */
 	@Override
-	public void onDraw(Graphics g) {
-		g.drawImage(control.getImage(imageFileName), bounds.posX, bounds.posY, 80, 50, null);
+	public void onDraw(RenderList list) {
+		list.drawImage(control.getSprite(imageFileName, 80, 50), bounds.posX, bounds.posY);
 		
 	}
 }
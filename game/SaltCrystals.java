@@ -1,43 +1,118 @@
 package game;
 
-import java.awt.Graphics;
-import java.awt.Point;
-import java.util.Scanner;
+import java.util.ArrayDeque;
 
-import path.Path;
 /**
  * SaltCrystals are shout out by SaltTowers and they do 1 damage on any enemy that goes across them.
  * 
+ * SaltCrystals are pooled: get one with obtain, and it goes back to the pool by itself
+ * once it has expired and left the frame.
+ * 
  * @author Kevin Cuellar
- * @version 12/6/2022
+ * @version 10/18/2026
  */
 public class SaltCrystals extends GameObject {
 
+	private static final ArrayDeque<SaltCrystals> pool = new ArrayDeque<>();
+	
 	public Bounds bounds; //can be null if not ready to be used
+	private Bounds landedBounds = new Bounds(50, 50, 0, 0, OFFSET_X, OFFSET_Y); //reused as bounds once landed
 	private int x, y;
-	private Path p;
+	private int startX, startY, endX, endY; //flies in a straight line between these
 	private double percentage;
 	private static final double PERCENTAGE_CHANGE = 0.20;
 	private static final int OFFSET_X = -20;
 	private static final int OFFSET_Y = -20;
+	private static final int SIZE = 58; //size of salt_crystals.png
 	public static final int DAMAGE_DONE = 1;
+	private final Runnable addToGrid = () -> Control.crystals.add(this); //made once so landing allocates nothing
+	
 	
+	/**
+	* Constructor that creates an unused SaltCrystal for the pool.
+	* 
+	* @param state the State object of the game
+    * @param control the Control object of the game
+    */	
+	private SaltCrystals(State state, Control control) {
+		super(state, control, -999_999);
+	}
 	
 	/**
-	* Constructor that initiates this SaltCrystal with a state and a control, and
-	* a position on the screen and a position to move towards.
+	* Returns a SaltCrystal from the pool (or a new one if the pool is empty) that is 
+	* ready to fly from a position on the screen to a position to move towards.
 	* 
 	* @param state the State object of the game
     * @param control the Control object of the game
     * @param spawnX the X coordinate of this SaltCrystal
     * @param spawnY the Y coordinate of this SaltCrystal
-    * @param aimPos the Point on the path that this SaltCrystal is aiming for.
+    * @param aimX the X coordinate on the path that this SaltCrystal is aiming for
+    * @param aimY the Y coordinate on the path that this SaltCrystal is aiming for
+    * @return the SaltCrystal, not yet added to the State
     */	
-	protected SaltCrystals(State state, Control control, int spawnX, int spawnY, Point aimPos) {
-		super(state, control, -999_999);
-		x = spawnX;
-		y = spawnY;
-		p = new Path(new Scanner("2\n" + spawnX + " " + spawnY + "\n" + (aimPos.x + OFFSET_X) + " " + (aimPos.y + OFFSET_Y)));
+	protected static SaltCrystals obtain(State state, Control control, int spawnX, int spawnY, int aimX, int aimY) {
+		SaltCrystals sc;
+		synchronized(pool) {
+			sc = pool.poll();
+		}
+		if(sc == null)
+			sc = new SaltCrystals(state, control);
+		
+		sc.state = state;
+		sc.control = control;
+		sc.isExpired = false;
+		sc.isVisible = true;
+		sc.bounds = null;
+		sc.x = sc.startX = spawnX;
+		sc.y = sc.startY = spawnY;
+		sc.endX = aimX + OFFSET_X;
+		sc.endY = aimY + OFFSET_Y;
+		sc.percentage = 0;
+		return sc;
+	}
+
+	/**
+	* Copies where this SaltCrystal is into a row of a GameSnapshot.
+	* 
+	* @param ints the array to copy into, GameSnapshot.SHOT_INTS ints from at
+	* @param at the index of the first int
+	* @return how far this SaltCrystal has flown
+	*/
+	double saveTo(int[] ints, int at) {
+		ints[at] = x;
+		ints[at + 1] = y;
+		ints[at + 2] = startX;
+		ints[at + 3] = startY;
+		ints[at + 4] = endX;
+		ints[at + 5] = endY;
+		return percentage;
+	}
+	
+	/**
+	* Returns a SaltCrystal from the pool that is where a saved SaltCrystal was.
+	* A landed one is added to Control.crystals right away.
+	* 
+	* @param state the State object of the game
+	* @param control the Control object of the game
+	* @param ints the row of the GameSnapshot, see saveTo
+	* @param at the index of the first int
+	* @param percentage how far the SaltCrystal had flown
+	* @return the SaltCrystal, not yet added to the State
+	*/
+	static SaltCrystals restore(State state, Control control, int[] ints, int at, double percentage) {
+		SaltCrystals sc = obtain(state, control, ints[at + 2], ints[at + 3], 0, 0);
+		sc.x = ints[at];
+		sc.y = ints[at + 1];
+		sc.endX = ints[at + 4];
+		sc.endY = ints[at + 5];
+		sc.percentage = percentage;
+		if(percentage >= 0.7) { //landed in the update that got it this far
+			sc.landedBounds.posX = sc.x + OFFSET_X;
+			sc.landedBounds.posY = sc.y + OFFSET_Y;
+			sc.bounds = sc.landedBounds;
+			Control.crystals.add(sc);
+		}
+		return sc;
 	}
 
     /**
@@ -48,26 +123,52 @@ public class SaltCrystals extends GameObject {
 	@Override
 	public void update(double timeElapsed) {
 		if(percentage <= 2.0) {
-			Point newP = p.convertToCoordinates(percentage);
-			x = newP.x;
-			y = newP.y;
+			//stays at the aimed position once it gets there
+			double across = Math.min(percentage, 1.0);
+			double inverse = 1 - across;
+			x = (int)((inverse * startX) + (across * endX));
+			y = (int)((inverse * startY) + (across * endY));
 			percentage += PERCENTAGE_CHANGE;
+			state.markDirty(x, y, SIZE, SIZE);
 		}
 		
 		if(percentage >= 0.7 && bounds == null) {
-			bounds = new Bounds(50, 50, x, y, OFFSET_X, OFFSET_Y);
-			Control.crystals.add(this);
+			landedBounds.posX = x + OFFSET_X;
+			landedBounds.posY = y + OFFSET_Y;
+			bounds = landedBounds;
+			state.defer(addToGrid);
 		}
 	}
+	
+    /**
+     * SaltCrystals only change the CrystalGrid through State.defer, so they can be updated in parallel.
+     * 
+     * @return true
+     */
+	@Override
+	public boolean canUpdateInParallel() {
+		return true;
+	}
 
     /**
-     * Draws the GameObject on to the given Graphics object.
+     * Records the GameObject into the given RenderList.
      * 
-     * @param g the Graphics object to draw to
+     * @param list the RenderList to record into
+     */
+	@Override
+	public void draw(RenderList list) {
+		list.drawImage(control.getSprite("salt_crystals.png"), x, y);
+	}
+	
+    /**
+     * Marks where this SaltCrystal was drawn and puts it back in the pool.
      */
 	@Override
-	public void draw(Graphics g) {
-		g.drawImage(control.getImage("salt_crystals.png"), x, y, null);
+	protected void onRemoved() {
+		state.markDirty(x, y, SIZE, SIZE);
+		synchronized(pool) {
+			pool.push(this);
+		}
 	}
 
 }
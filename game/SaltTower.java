@@ -1,6 +1,5 @@
 package game;
 
-import java.awt.Graphics;
 import java.awt.Point;
 
 /**
@@ -13,7 +12,7 @@ import java.awt.Point;
 public class SaltTower extends Tower {
 	
 
-	private boolean midHasPassed; //measured every time timeInBlock is at its middle, a point in time, which is speed/2
+	boolean midHasPassed; //measured every time timeInBlock is at its middle, a point in time, which is speed/2
 	private static final int HOW_FAST_CAN_IT_GO = 20; //don't mess with this, fined tuned.
 	
 	private Point closestPoint;
@@ -39,7 +38,8 @@ public class SaltTower extends Tower {
 	@Override
 	public void onUpdate(double timeElapsed) {
 		if(!isMoving && closestPoint == null) {
-			closestPoint = control.getPath().closestPoint(bounds.posX, bounds.posY);
+			closestPoint = new Point();
+			control.getRoutes().closestPointOnRoutes(bounds.posX, bounds.posY, closestPoint);
 		}
 		
 		double timeElapsedMillis = timeElapsed * HOW_FAST_CAN_IT_GO;
@@ -48,7 +48,7 @@ public class SaltTower extends Tower {
 		if(!midHasPassed && (int)timeInBlock == (int)(speed/2.0)) {
 			midHasPassed = true;
 			//send salt crystals here
-			SaltCrystals s = new SaltCrystals(state, control, bounds.posX, bounds.posY, closestPoint);
+			SaltCrystals s = SaltCrystals.obtain(state, control, bounds.posX, bounds.posY, closestPoint.x, closestPoint.y);
 			state.addGameObject(s);
 		}
 		else if(midHasPassed && (int)timeInBlock > (int)(speed/2.0) + 1) {
@@ -60,11 +60,11 @@ public class SaltTower extends Tower {
 	/**
 	 * called once Tower does its draw. DO NOT OVERRIDE TOWER'S DRAW METHOD
 	 * 
-	 * @param g the Graphics object to draw to
+	 * @param list the RenderList to record into
 	 */
 	@Override
-	public void onDraw(Graphics g) {
-		g.drawImage(control.getImage(imageFileName), bounds.posX, bounds.posY, null);
+	public void onDraw(RenderList list) {
+		list.drawImage(control.getSprite(imageFileName), bounds.posX, bounds.posY);
 		
 	}
 }
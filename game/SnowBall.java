@@ -1,48 +1,119 @@
 package game;
 
-import java.awt.Graphics;
-import java.awt.Point;
-import java.util.Scanner;
-
-import path.Path;
+import java.util.ArrayDeque;
 
 /**
  * A Snowball is sent out by the SaltCatapult and it will try to aim for the closest
  * Enemy, it won't always suceed but it does a lot of damage. 
  * 
+ * SnowBalls are pooled: get one with obtain, and it goes back to the pool by itself
+ * once it has expired and left the frame.
+ * 
  * @author Kevin Cuellar
- * @version 12/5/2022
+ * @version 10/18/2026
  */
 public class SnowBall extends GameObject {
 
+	private static final ArrayDeque<SnowBall> pool = new ArrayDeque<>();
+	
 	private int x, y;
-	private Path p;
+	private int startX, startY, endX, endY; //flies in a straight line between these
 	private double percentage;
 	private static final double PERCENTAGE_CHANGE = 0.10;
 	private static final int OFFSET_X = -20;
 	private static final int OFFSET_Y = -20;
+	private static final int SIZE = 20; //drawn at this width and height
 	private int DAMAGE_DONE = 1;
-	private Enemy aimedEnemy;
+	private int aimedSlot; //slot of the aimed enemy in the EnemyPool
+	private int aimedGeneration; //generation of that slot when it was aimed at
+	private final Runnable hitAimedEnemy = this::hitAimedEnemy; //made once so hitting allocates nothing
 	
 	/**
-	* Constructor that initiates this SnowBall with a state and a control, and
-	* a position on the screen and a position to move towards.
+	* Constructor that creates an unused SnowBall for the pool.
 	* 
 	* @param state the State object of the game
     * @param control the Control object of the game
-    * @param spawnX the X coordinate of this SaltCrystal
-    * @param spawnY the Y coordinate of this SaltCrystal
-    * @param aimPos the Point on the path that this SaltCrystal is aiming for.
-    * @param aimedEnemy the enemy this SnowBall is aiming for
-    * @param damage the amount of damage done by this SnowBall
     */	
-	protected SnowBall(State state, Control control, int spawnX, int spawnY, Point aimPos, Enemy aimedEnemy, int damage) {
+	private SnowBall(State state, Control control) {
 		super(state, control, -999_998);
-		this.aimedEnemy = aimedEnemy;
-		DAMAGE_DONE = damage;
-		x = spawnX;
-		y = spawnY;
-		p = new Path(new Scanner("2\n" + spawnX + " " + spawnY + "\n" + (aimPos.x + OFFSET_X) + " " + (aimPos.y + OFFSET_Y)));
+	}
+	
+	/**
+	* Returns a SnowBall from the pool (or a new one if the pool is empty) that is 
+	* ready to fly from a position on the screen to a position to move towards.
+	* 
+	* @param state the State object of the game
+    * @param control the Control object of the game
+    * @param spawnX the X coordinate of this SnowBall
+    * @param spawnY the Y coordinate of this SnowBall
+    * @param aimX the X coordinate on the path that this SnowBall is aiming for
+    * @param aimY the Y coordinate on the path that this SnowBall is aiming for
+    * @param aimedSlot the EnemyPool slot of the enemy this SnowBall is aiming for
+    * @param damage the amount of damage done by this SnowBall
+    * @return the SnowBall, not yet added to the State
+    */	
+	protected static SnowBall obtain(State state, Control control, int spawnX, int spawnY, int aimX, int aimY, int aimedSlot, int damage) {
+		SnowBall sb;
+		synchronized(pool) {
+			sb = pool.poll();
+		}
+		if(sb == null)
+			sb = new SnowBall(state, control);
+		
+		sb.state = state;
+		sb.control = control;
+		sb.isExpired = false;
+		sb.isVisible = true;
+		sb.aimedSlot = aimedSlot;
+		sb.aimedGeneration = control.getEnemies().getGeneration(aimedSlot);
+		sb.DAMAGE_DONE = damage;
+		sb.x = sb.startX = spawnX;
+		sb.y = sb.startY = spawnY;
+		sb.endX = aimX + OFFSET_X;
+		sb.endY = aimY + OFFSET_Y;
+		sb.percentage = 0;
+		return sb;
+	}
+
+	/**
+	* Copies where this SnowBall is and what it aims at into a row of a GameSnapshot.
+	* 
+	* @param ints the array to copy into, GameSnapshot.SHOT_INTS ints from at
+	* @param at the index of the first int
+	* @return how far this SnowBall has flown
+	*/
+	double saveTo(int[] ints, int at) {
+		ints[at] = x;
+		ints[at + 1] = y;
+		ints[at + 2] = startX;
+		ints[at + 3] = startY;
+		ints[at + 4] = endX;
+		ints[at + 5] = endY;
+		ints[at + 6] = aimedSlot;
+		ints[at + 7] = aimedGeneration;
+		ints[at + 8] = DAMAGE_DONE;
+		return percentage;
+	}
+	
+	/**
+	* Returns a SnowBall from the pool that is where a saved SnowBall was.
+	* 
+	* @param state the State object of the game
+	* @param control the Control object of the game
+	* @param ints the row of the GameSnapshot, see saveTo
+	* @param at the index of the first int
+	* @param percentage how far the SnowBall had flown
+	* @return the SnowBall, not yet added to the State
+	*/
+	static SnowBall restore(State state, Control control, int[] ints, int at, double percentage) {
+		SnowBall sb = obtain(state, control, ints[at + 2], ints[at + 3], 0, 0, ints[at + 6], ints[at + 8]);
+		sb.x = ints[at];
+		sb.y = ints[at + 1];
+		sb.endX = ints[at + 4];
+		sb.endY = ints[at + 5];
+		sb.aimedGeneration = ints[at + 7];
+		sb.percentage = percentage;
+		return sb;
 	}
 
     /**
@@ -53,27 +124,58 @@ public class SnowBall extends GameObject {
 	@Override
 	public void update(double timeElapsed) {
 		if(percentage < 1.0) {
-			Point newP = p.convertToCoordinates(percentage);
-			x = newP.x;
-			y = newP.y;
+			double inverse = 1 - percentage;
+			x = (int)((inverse * startX) + (percentage * endX));
+			y = (int)((inverse * startY) + (percentage * endY));
 			percentage += PERCENTAGE_CHANGE;
+			state.markDirty(x, y, SIZE, SIZE);
 		}
 	
 		if(percentage >= 1.0) {
-			aimedEnemy.setHealth(aimedEnemy.getHealth() - DAMAGE_DONE);
+			state.defer(hitAimedEnemy);
 			isExpired = true;
 		}
 		
 	}
+	
+    /**
+     * Does damage to the aimed enemy, if it is still there.
+     */
+	private void hitAimedEnemy() {
+		//the enemy may have died or reached the end while this was flying
+		if(control.getEnemies().isAlive(aimedSlot, aimedGeneration))
+			control.getEnemies().damage(aimedSlot, DAMAGE_DONE);
+	}
+	
+    /**
+     * SnowBalls only change the EnemyPool through State.defer, so they can be updated in parallel.
+     * 
+     * @return true
+     */
+	@Override
+	public boolean canUpdateInParallel() {
+		return true;
+	}
 
     /**
-     * Draws the GameObject on to the given Graphics object.
+     * Records the GameObject into the given RenderList.
      * 
-     * @param g the Graphics object to draw to
+     * @param list the RenderList to record into
      */
 	@Override
-	public void draw(Graphics g) {
-		g.drawImage(control.getImage("snowball.png"), x, y, 20, 20, null);
+	public void draw(RenderList list) {
+		list.drawImage(control.getSprite("snowball.png", SIZE, SIZE), x, y);
+	}
+	
+    /**
+     * Marks where this SnowBall was drawn and puts it back in the pool.
+     */
+	@Override
+	protected void onRemoved() {
+		state.markDirty(x, y, SIZE, SIZE);
+		synchronized(pool) {
+			pool.push(this);
+		}
 	}
 
 }
@@ -0,0 +1,114 @@
+package game;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+
+/**
+ * Every enemy that became due during one tick, handed to the EnemyPool in a single call.
+ * Besides the type and speed of each enemy it keeps how many seconds ago the enemy was
+ * due, so an enemy that should have been sent halfway through the tick starts as far
+ * along the path as it would have walked since then. Dense waves keep their spacing on
+ * the path even when several enemies are due every tick.
+ *
+ * SpawnBatches are pooled: get one with obtain and give it back with release once its
+ * enemies were spawned. The arrays are kept, so a batch as big as a late wave only
+ * allocates the first time.
+ *
+ * @author Kevin Cuellar
+ * @version 10/18/2026
+ */
+public class SpawnBatch {
+
+	private static final ArrayDeque<SpawnBatch> pool = new ArrayDeque<>();
+	private static final EnemyType[] TYPES = EnemyType.values();
+
+	private int size;
+	private int[] types = new int[16]; //EnemyType ordinals
+	private double[] speeds = new double[16];
+	private double[] secondsLate = new double[16];
+
+	private SpawnBatch() {
+	}
+
+	/**
+	 * Returns an empty SpawnBatch from the pool, or a new one if the pool is empty.
+	 *
+	 * @return the empty batch
+	 */
+	public static SpawnBatch obtain() {
+		SpawnBatch batch;
+		synchronized(pool) {
+			batch = pool.poll();
+		}
+		return batch == null ? new SpawnBatch() : batch;
+	}
+
+	/**
+	 * Empties this batch and puts it back in the pool. It must not be used afterwards.
+	 */
+	public void release() {
+		size = 0;
+		synchronized(pool) {
+			pool.push(this);
+		}
+	}
+
+	/**
+	 * Adds an enemy to the batch.
+	 *
+	 * @param type the kind of enemy
+	 * @param movementSpeed the speed of the enemy, like EnemyPool.spawn
+	 * @param late how many seconds ago the enemy was due, 0 if it is due right now
+	 */
+	public void add(EnemyType type, double movementSpeed, double late) {
+		if(size == types.length) {
+			int capacity = size * 2;
+			types = Arrays.copyOf(types, capacity);
+			speeds = Arrays.copyOf(speeds, capacity);
+			secondsLate = Arrays.copyOf(secondsLate, capacity);
+		}
+		types[size] = type.ordinal();
+		speeds[size] = movementSpeed;
+		secondsLate[size] = Math.max(late, 0);
+		size++;
+	}
+
+	/**
+	 * Returns the amount of enemies in the batch.
+	 *
+	 * @return the amount of enemies
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the kind of an enemy in the batch.
+	 *
+	 * @param i the index of the enemy, in the order they were added
+	 * @return the kind of enemy
+	 */
+	public EnemyType getType(int i) {
+		return TYPES[types[i]];
+	}
+
+	/**
+	 * Returns the speed of an enemy in the batch.
+	 *
+	 * @param i the index of the enemy, in the order they were added
+	 * @return the speed, like EnemyPool.spawn
+	 */
+	public double getSpeed(int i) {
+		return speeds[i];
+	}
+
+	/**
+	 * Returns how many seconds ago an enemy in the batch was due.
+	 *
+	 * @param i the index of the enemy, in the order they were added
+	 * @return the seconds the enemy is late
+	 */
+	public double getSecondsLate(int i) {
+		return secondsLate[i];
+	}
+}
@@ -0,0 +1,121 @@
+package game;
+
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Keeps copies of the images in the "resources" folder that are ready to be drawn
+ * straight onto the screen: converted once into the pixel format of the display, and
+ * scaled once for every size they are drawn at. Drawing one of these is a plain copy,
+ * where drawing the decoded image scaled would convert and resample it every frame.
+ * 
+ * @author Kevin Cuellar
+ * @version 10/18/2026
+ */
+public class SpriteCache {
+	
+	private Function<String, BufferedImage> loader;
+	private Map<String, List<Sprite>> sprites; //every size made so far of each file
+	
+	/**
+	 * A copy of an image at one size.
+	 */
+	private static class Sprite {
+		final int width, height;
+		final BufferedImage image;
+		
+		Sprite(int width, int height, BufferedImage image) {
+			this.width = width;
+			this.height = height;
+			this.image = image;
+		}
+	}
+	
+	/**
+	 * Constructor - creates an empty cache.
+	 * 
+	 * @param loader gives the decoded image for a file name, like Control.getImage
+	 */
+	public SpriteCache(Function<String, BufferedImage> loader) {
+		this.loader = loader;
+		sprites = new HashMap<>();
+	}
+	
+	/**
+	 * Returns the image from a file at its own size, in the display's format.
+	 * 
+	 * @param filename the file name of the image inside the "resources" folder
+	 * @return the image, ready to be drawn
+	 */
+	public BufferedImage getSprite(String filename) {
+		List<Sprite> sizes = sprites.get(filename);
+		if(sizes != null)
+			return sizes.get(0).image; //the first one made is always the original size
+		
+		BufferedImage original = loader.apply(filename);
+		return getSprite(filename, original.getWidth(), original.getHeight());
+	}
+	
+	/**
+	 * Returns the image from a file scaled to the given size, in the display's format.
+	 * 
+	 * @param filename the file name of the image inside the "resources" folder
+	 * @param width the width to draw the image at
+	 * @param height the height to draw the image at
+	 * @return the scaled image, ready to be drawn without scaling
+	 */
+	public BufferedImage getSprite(String filename, int width, int height) {
+		List<Sprite> sizes = sprites.get(filename);
+		if(sizes == null) {
+			sizes = new ArrayList<>();
+			sprites.put(filename, sizes);
+			BufferedImage original = loader.apply(filename);
+			sizes.add(new Sprite(original.getWidth(), original.getHeight(), convert(original, original.getWidth(), original.getHeight())));
+		}
+		
+		//there are only ever a couple of sizes of each file
+		for(int i = 0; i < sizes.size(); i++) {
+			Sprite s = sizes.get(i);
+			if(s.width == width && s.height == height)
+				return s.image;
+		}
+		
+		BufferedImage scaled = convert(loader.apply(filename), width, height);
+		sizes.add(new Sprite(width, height, scaled));
+		return scaled;
+	}
+	
+	/**
+	 * Draws the image into a new image of the given size in the display's format.
+	 * 
+	 * @param image the image to copy
+	 * @param width the width of the copy
+	 * @param height the height of the copy
+	 * @return the copy
+	 */
+	private static BufferedImage convert(BufferedImage image, int width, int height) {
+		BufferedImage copy;
+		if(GraphicsEnvironment.isHeadless()) {
+			copy = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB_PRE);
+		} else {
+			GraphicsConfiguration gc = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
+			copy = gc.createCompatibleImage(width, height, image.getColorModel().hasAlpha() ? Transparency.TRANSLUCENT : Transparency.OPAQUE);
+		}
+		
+		Graphics2D g = copy.createGraphics();
+		g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+		g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+		g.drawImage(image, 0, 0, width, height, null);
+		g.dispose();
+		return copy;
+	}
+}
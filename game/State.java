@@ -1,96 +1,100 @@
 package game;
 
+import java.awt.Rectangle;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
-import java.util.PriorityQueue;
-import java.util.Queue;
 
 /**
  * Holds values regarding the GameObjects in the current frame and the next frame
  * of the game. Allows for going through each "frame", getting current frame GameObjects,
  * and adding GameObjects to the next frame.
  * 
+ * The GameObjects live in a single list that is kept sorted by drawingPriority, so it is
+ * both the update order and the draw order. GameObjects added during a frame wait in a
+ * pending list until finishFrame, which sweeps out expired objects and merges the pending
+ * ones in without reallocating anything.
+ * 
  * @author Kevin Cuellar
- * @version 11/25/2022
+ * @version 10/18/2026
  */
 public class State {
 	
-	private PriorityQueue<GameObject> currentFrameGameObjects;
-	private PriorityQueue<GameObject> nextFrameGameObjects;
+	private ArrayList<GameObject> frameObjects; //sorted by drawingPriority
+	private ArrayList<GameObject> pendingObjects; //added since the last finishFrame
+	private ArrayList<GameObject> mergeBuffer; //reused by finishFrame to merge pendingObjects in
 	
     private int money;
     private int lives;
     private boolean isGameOver = false;
     private Control control;
     
-    private double elapsedTime; //seconds since last frame
-    private long lastFrameStartTime;
-    private double secondsSinceGameStart;
-    private long gameStartTime;
+    private Clock clock;
+    private Rectangle dirtyRegion = new Rectangle(); //what has to be drawn again, empty when nothing
+    private int staticVersion; //goes up whenever what GameObjects draw in drawStatic changes
     
     public boolean isUpgradeMenuOpen;
     
-    private static Comparator<GameObject> comparator = (go1, go2) -> {
-		if(go1.drawingPriority > go2.drawingPriority)
-			return 1;
-		else if(go1.drawingPriority < go2.drawingPriority)
-			return -1;
-		else 
-			return 0;
-	};
+    private static Comparator<GameObject> comparator = (go1, go2) -> Integer.compare(go1.drawingPriority, go2.drawingPriority);
     
 	/**
-	* Constructor creates the ArrayList that holds the GameObjects.
+	* Constructor creates the lists that hold the GameObjects.
     */
     public State(Control control) {
-    	//priority queue instantiation
-    	currentFrameGameObjects = new PriorityQueue<>(comparator);
+    	frameObjects = new ArrayList<>();
+    	pendingObjects = new ArrayList<>();
+    	mergeBuffer = new ArrayList<>();
     	this.control = control;
-    	
-    	//initialize these to the current time millis
-    	gameStartTime = System.currentTimeMillis();
-    	lastFrameStartTime = System.currentTimeMillis();
+    	clock = new WallClock();
     }
     
 	/**
-	* Returns The Queue of GameObjects in the current frame.
+	* Returns the GameObjects in the current frame, in drawing order 
+	* (lowest drawingPriority first). Do not modify the returned list, 
+	* use addGameObject and expire objects instead.
     * 
-    * @return The Queue of GameObjects in the current frame
+    * @return The GameObjects in the current frame
     */
-    public Queue<GameObject> getFrameObjects() {
-        return currentFrameGameObjects;
+    public List<GameObject> getFrameObjects() {
+        return frameObjects;
     }
     
 	/**
-	* Creates the next frame of GameObjects with all the current GameObjects.
+	* Starts the next frame. GameObjects added from now on are pending
+	* until finishFrame is called.
     */
     public void startFrame() {
-        nextFrameGameObjects = new PriorityQueue<>(comparator);  // Creates empty PriorityQueue
-        nextFrameGameObjects.addAll(currentFrameGameObjects);  // Add all the current ones to the new Queue.  This is more clear
-        
-        //calculate the elapsed time, and set the last Frame start time
-        elapsedTime = (System.currentTimeMillis() - lastFrameStartTime) / 1000.0;
-        secondsSinceGameStart = (System.currentTimeMillis() - gameStartTime) / 1000.0;
-        lastFrameStartTime = System.currentTimeMillis();
-        
-        //System.out.println("elapsedTime: " + elapsedTime);
+        clock.advance();
     }
     
 	/**
-	* Moves the next frame of GameObjects into the current frame. 
-	* Removes expired objects from frame, and puts certain objects 
-	* at the front of the list to be drawn with priority.
+	* Moves the pending GameObjects into the current frame. 
+	* Removes expired objects from frame, and keeps the frame sorted 
+	* so that objects are drawn with priority.
     */
     public void finishFrame() {
-        //remove expired objects from upcoming frame
-    	List<GameObject> temp = new ArrayList<>(nextFrameGameObjects);
-    	for(GameObject go : temp)
-    		if(go.isExpired()) 
-    			nextFrameGameObjects.remove(go);
+        //remove expired objects in one pass, keeping the order of the rest
+    	boolean isSorted = compact(frameObjects);
+    	compact(pendingObjects);
     	
-    	currentFrameGameObjects = nextFrameGameObjects;
-        //nextFrameGameObjects = new ArrayList<>();  //was here before
+    	if(pendingObjects.isEmpty()) {
+    		if(!isSorted) //someone changed a drawingPriority
+    			frameObjects.sort(comparator);
+    		return;
+    	}
+    	
+    	pendingObjects.sort(comparator);
+    	if(!isSorted) {
+    		frameObjects.addAll(pendingObjects);
+    		frameObjects.sort(comparator);
+    	} else {
+    		merge(frameObjects, pendingObjects, mergeBuffer);
+    		ArrayList<GameObject> temp = frameObjects;
+    		frameObjects = mergeBuffer;
+    		mergeBuffer = temp;
+    	}
+    	mergeBuffer.clear();
+    	pendingObjects.clear();
     }
     
     /**
@@ -99,7 +103,160 @@ public class State {
 	* @param go the GameObject to add to the next frame.
     */
     public void addGameObject(GameObject go) {
-    	nextFrameGameObjects.offer(go);
+    	TickBuffer buffer = TickBuffer.current();
+    	if(buffer != null) {
+    		buffer.spawns.add(go);
+    		return;
+    	}
+    	pendingObjects.add(go);
+    }
+    
+    /**
+	* Runs an effect on objects shared by the whole game (like the EnemyPool).
+	* During a parallel update the effect is held back until the end of the update,
+	* otherwise it runs right away.
+	* 
+	* @param effect the effect to run
+    */
+    public void defer(Runnable effect) {
+    	TickBuffer buffer = TickBuffer.current();
+    	if(buffer != null) {
+    		buffer.effects.add(effect);
+    		return;
+    	}
+    	effect.run();
+    }
+    
+    /**
+	* Marks an area of the screen as changed, so the View draws it again.
+	* GameObjects mark where they are drawn whenever they move or change; 
+	* where they were drawn before is remembered by the View.
+	* 
+	* @param x the x position of the area
+	* @param y the y position of the area
+	* @param width the width of the area
+	* @param height the height of the area
+    */
+    public void markDirty(int x, int y, int width, int height) {
+    	TickBuffer buffer = TickBuffer.current();
+    	union(buffer != null ? buffer.dirtyRegion : dirtyRegion, x, y, width, height);
+    }
+    
+    /**
+	* Copies the area marked by markDirty since the last call into the given rectangle,
+	* and starts over with nothing marked.
+	* 
+	* @param result the rectangle to copy the area into, empty if nothing was marked
+	* @return the result
+    */
+    public Rectangle takeDirtyRegion(Rectangle result) {
+    	result.setBounds(dirtyRegion);
+    	dirtyRegion.setBounds(0, 0, 0, 0);
+    	return result;
+    }
+    
+    /**
+	* Makes the View draw its static layer again from the next published frame on.
+	* Call after a GameObject with a drawStatic is added, removed, or draws something else there.
+    */
+    public void invalidateStaticLayer() {
+    	staticVersion++;
+    }
+    
+    /**
+	* Returns which version of the static layer the GameObjects draw right now,
+	* see invalidateStaticLayer.
+	* 
+	* @return the version of the static layer
+    */
+    public int getStaticVersion() {
+    	return staticVersion;
+    }
+    
+    /**
+	* Grows the rectangle to also cover the given area. Unlike Rectangle.add,
+	* an empty rectangle does not count as covering its corner.
+    */
+    static void union(Rectangle r, int x, int y, int width, int height) {
+    	if(width <= 0 || height <= 0)
+    		return;
+    	if(r.isEmpty()) {
+    		r.setBounds(x, y, width, height);
+    		return;
+    	}
+    	int minX = Math.min(r.x, x);
+    	int minY = Math.min(r.y, y);
+    	int maxX = Math.max(r.x + r.width, x + width);
+    	int maxY = Math.max(r.y + r.height, y + height);
+    	r.setBounds(minX, minY, maxX - minX, maxY - minY);
+    }
+    
+    /**
+	* Removes expired objects from the list without changing the order of the others.
+	* 
+	* @param list the list to remove expired objects from
+	* @return whether or not the remaining objects are still sorted by drawingPriority
+    */
+    private static boolean compact(ArrayList<GameObject> list) {
+    	int size = list.size();
+    	int kept = 0;
+    	boolean isSorted = true;
+    	for(int i = 0; i < size; i++) {
+    		GameObject go = list.get(i);
+    		if(go.isExpired()) {
+    			go.onRemoved();
+    			continue;
+    		}
+    		if(kept > 0 && comparator.compare(list.get(kept - 1), go) > 0)
+    			isSorted = false;
+    		list.set(kept++, go);
+    	}
+    	//remove from the end so nothing gets shifted
+    	for(int i = size - 1; i >= kept; i--)
+    		list.remove(i);
+    	return isSorted;
+    }
+    
+    /**
+	* Merges two sorted lists into the (empty) result list. 
+	* Objects from first come before equal objects from second.
+	* 
+	* @param first a list sorted by drawingPriority
+	* @param second a list sorted by drawingPriority
+	* @param result the list to merge into
+    */
+    private static void merge(List<GameObject> first, List<GameObject> second, List<GameObject> result) {
+    	int i = 0;
+    	int j = 0;
+    	while(i < first.size() && j < second.size()) {
+    		if(comparator.compare(first.get(i), second.get(j)) <= 0)
+    			result.add(first.get(i++));
+    		else
+    			result.add(second.get(j++));
+    	}
+    	while(i < first.size())
+    		result.add(first.get(i++));
+    	while(j < second.size())
+    		result.add(second.get(j++));
+    }
+    
+    /**
+	* Sets the Clock that decides how much time passes every frame.
+	* The new Clock starts counting from its own start.
+	* 
+	* @param clock the Clock to use from the next frame on
+    */
+    public void setClock(Clock clock) {
+    	this.clock = clock;
+    }
+    
+    /**
+	* Returns the Clock that decides how much time passes every frame.
+	* 
+	* @return the Clock of this game
+    */
+    public Clock getClock() {
+    	return clock;
     }
     
     /**
@@ -111,6 +268,21 @@ public class State {
     	this.money = money;
     }
     
+    /**
+	* Adds to (or with a negative amount, takes from) the money available to the player.
+	* Safe to call during a parallel update, unlike setMoney.
+	* 
+	* @param amount the amount of money to add
+    */
+    public void addMoney(int amount) {
+    	TickBuffer buffer = TickBuffer.current();
+    	if(buffer != null) {
+    		buffer.moneyChange += amount;
+    		return;
+    	}
+    	setMoney(money + amount);
+    }
+    
     /**
 	* Returns the amount of money available to the player.
 	* 
@@ -134,6 +306,21 @@ public class State {
     	}
     }
     
+    /**
+	* Adds to (or with a negative amount, takes from) the lives available to the player.
+	* Safe to call during a parallel update, unlike setLives.
+	* 
+	* @param amount the amount of lives to add
+    */
+    public void addLives(int amount) {
+    	TickBuffer buffer = TickBuffer.current();
+    	if(buffer != null) {
+    		buffer.livesChange += amount;
+    		return;
+    	}
+    	setLives(lives + amount);
+    }
+    
     /**
  	* Returns the amount of lives available to the player.
  	* 
@@ -143,6 +330,21 @@ public class State {
     	return lives;
     }
     
+    /**
+	* Puts the money, lives and game time back to how they were in a saved game.
+	* The game is over again if the saved game was.
+	* 
+	* @param money the amount of money
+	* @param lives the amount of lives
+	* @param secondsSinceGameStart the seconds of game time since the game started
+    */
+    void restore(int money, int lives, double secondsSinceGameStart) {
+    	this.money = money;
+    	isGameOver = false;
+    	setLives(lives);
+    	clock.setSecondsSinceGameStart(secondsSinceGameStart);
+    }
+    
     /**
 	* Sets whether or not the game is over.
 	* 
@@ -171,7 +373,7 @@ public class State {
  	* @return the elapsed time since the last frame
      */
     public double getElapsedTime() {
-    	return this.elapsedTime;
+    	return clock.getElapsedTime();
     }
     
     /**
@@ -180,6 +382,6 @@ public class State {
  	* @return total time the game has been running
      */
     public double getSecondsSinceGameStart() {
-    	return secondsSinceGameStart;
+    	return clock.getSecondsSinceGameStart();
     }
 }
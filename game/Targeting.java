@@ -0,0 +1,156 @@
+package game;
+
+/**
+ * The standard ways for a tower to pick which enemy to shoot at.
+ * All of them only consider enemies within the tower's range (if it has one).
+ * 
+ * @author Kevin Cuellar
+ * @version 10/18/2026
+ */
+public enum Targeting implements TargetingStrategy {
+	
+	/**
+	 * The enemy furthest along the path. Walks the enemies from the front of the path
+	 * backwards and stops at the first one in range.
+	 */
+	FIRST {
+		@Override
+		public int select(TargetingIndex targets, int x, int y, int range) {
+			for(int rank = 0; rank < targets.size(); rank++) {
+				int i = targets.byProgress(rank);
+				if(isInRange(targets, i, x, y, range))
+					return i;
+			}
+			return -1;
+		}
+	},
+	
+	/**
+	 * The enemy closest to the tower. Searches the grid in rings of cells around the
+	 * tower and stops once no closer enemy can be in the next ring.
+	 */
+	NEAREST {
+		@Override
+		public int select(TargetingIndex targets, int x, int y, int range) {
+			int cx = TargetingIndex.cellCoordinate(x);
+			int cy = TargetingIndex.cellCoordinate(y);
+			int best = -1;
+			long bestDistance = Long.MAX_VALUE;
+			
+			for(int ring = 0; ring < TargetingIndex.CELLS_PER_SIDE; ring++) {
+				//every enemy in this ring or further is at least this far away
+				long ringDistance = (long)Math.max(0, ring - 1) * TargetingIndex.CELL_SIZE;
+				if(ringDistance * ringDistance > bestDistance)
+					break;
+				if(range > 0 && ringDistance > range)
+					break;
+				
+				for(int ry = cy - ring; ry <= cy + ring; ry++) {
+					for(int rx = cx - ring; rx <= cx + ring; rx++) {
+						//only the outline of the ring, the inside was already searched
+						if(ry != cy - ring && ry != cy + ring && rx != cx - ring && rx != cx + ring)
+							continue;
+						if(rx < 0 || ry < 0 || rx >= TargetingIndex.CELLS_PER_SIDE || ry >= TargetingIndex.CELLS_PER_SIDE)
+							continue;
+						for(int c = targets.cellStart(rx, ry); c < targets.cellEnd(rx, ry); c++) {
+							int i = targets.cellItem(c);
+							long d = distanceSquared(targets, i, x, y);
+							if(d < bestDistance && isInRange(targets, i, x, y, range)) {
+								bestDistance = d;
+								best = i;
+							}
+						}
+					}
+				}
+			}
+			return best;
+		}
+	},
+	
+	/**
+	 * The enemy with the most health. Only looks at the cells the range covers.
+	 */
+	STRONGEST {
+		@Override
+		public int select(TargetingIndex targets, int x, int y, int range) {
+			int best = -1;
+			for(int ry = firstCell(y, range); ry <= lastCell(y, range); ry++) {
+				for(int rx = firstCell(x, range); rx <= lastCell(x, range); rx++) {
+					for(int c = targets.cellStart(rx, ry); c < targets.cellEnd(rx, ry); c++) {
+						int i = targets.cellItem(c);
+						if((best == -1 || targets.getHealth(i) > targets.getHealth(best)) && isInRange(targets, i, x, y, range))
+							best = i;
+					}
+				}
+			}
+			return best;
+		}
+	},
+	
+	/**
+	 * The enemy furthest away from the tower, which makes for a lot of misses. 
+	 * Skips every cell that cannot hold anything further away than the best so far.
+	 */
+	FARTHEST {
+		@Override
+		public int select(TargetingIndex targets, int x, int y, int range) {
+			int best = -1;
+			long bestDistance = -1;
+			for(int ry = firstCell(y, range); ry <= lastCell(y, range); ry++) {
+				for(int rx = firstCell(x, range); rx <= lastCell(x, range); rx++) {
+					if(targets.cellStart(rx, ry) == targets.cellEnd(rx, ry))
+						continue;
+					//the furthest corner of the cell, positions outside of the field are clamped into the edge cells
+					long farX = farthestCorner(rx, x);
+					long farY = farthestCorner(ry, y);
+					if(farX * farX + farY * farY < bestDistance)
+						continue;
+					for(int c = targets.cellStart(rx, ry); c < targets.cellEnd(rx, ry); c++) {
+						int i = targets.cellItem(c);
+						long d = distanceSquared(targets, i, x, y);
+						if(d >= bestDistance && isInRange(targets, i, x, y, range)) {
+							bestDistance = d;
+							best = i;
+						}
+					}
+				}
+			}
+			return best;
+		}
+	};
+	
+	private static long distanceSquared(TargetingIndex targets, int i, int x, int y) {
+		long dx = targets.getX(i) - x;
+		long dy = targets.getY(i) - y;
+		return dx * dx + dy * dy;
+	}
+	
+	private static boolean isInRange(TargetingIndex targets, int i, int x, int y, int range) {
+		return range <= 0 || distanceSquared(targets, i, x, y) <= (long)range * range;
+	}
+	
+	/**
+	 * Returns the first row or column of the cells that the range around the position covers.
+	 */
+	private static int firstCell(int pos, int range) {
+		return range <= 0 ? 0 : TargetingIndex.cellCoordinate(pos - range);
+	}
+	
+	/**
+	 * Returns the last row or column of the cells that the range around the position covers.
+	 */
+	private static int lastCell(int pos, int range) {
+		return range <= 0 ? TargetingIndex.CELLS_PER_SIDE - 1 : TargetingIndex.cellCoordinate(pos + range);
+	}
+	
+	/**
+	 * Returns how far along one axis the furthest point of a cell can be from a position.
+	 * Edge cells reach out forever, because positions outside the field are clamped into them.
+	 */
+	private static long farthestCorner(int cell, int pos) {
+		if(cell == 0 || cell == TargetingIndex.CELLS_PER_SIDE - 1)
+			return Integer.MAX_VALUE / 4;
+		long low = (long)cell * TargetingIndex.CELL_SIZE;
+		return Math.max(Math.abs(pos - low), Math.abs(low + TargetingIndex.CELL_SIZE - pos));
+	}
+}
@@ -0,0 +1,222 @@
+package game;
+
+import java.util.Arrays;
+
+import path.Path;
+
+/**
+ * A snapshot of where every live enemy is, taken once per tick after the enemies move.
+ * Towers ask it for a target through a TargetingStrategy instead of looking at every
+ * GameObject in the frame. The enemies are kept sorted by how far along the path they
+ * are, and bucketed into a grid over the play field, so most questions only look at a
+ * few enemies.
+ *
+ * Enemies are numbered 0 to size() - 1 in the snapshot; getSlot turns that into their
+ * EnemyPool slot.
+ *
+ * @author Kevin Cuellar
+ * @version 10/18/2026
+ */
+public class TargetingIndex {
+
+	public static final int CELL_SIZE = CrystalGrid.CELL_SIZE;
+	public static final int CELLS_PER_SIDE = CrystalGrid.FIELD_SIZE / CELL_SIZE;
+	private static final int INDEX_BITS = 31; //room for any int index, so no amount of enemies can overflow it
+	private static final double PROGRESS_SCALE = (double)((1L << 32) - 1); //progress 1.0 still fits in the 32 bits left below the sign bit
+
+	private int size;
+	private int[] slots = new int[64];
+	private int[] xs = new int[64];
+	private int[] ys = new int[64];
+	private double[] progress = new double[64];
+	private int[] health = new int[64];
+
+	private long[] progressKeys = new long[64]; //progress and index packed together, sorted ascending
+	private int[] cellStart = new int[CELLS_PER_SIDE * CELLS_PER_SIDE + 1]; //enemies of cell c are cellItems[cellStart[c]] to cellItems[cellStart[c + 1] - 1]
+	private int[] cellItems = new int[64];
+	private int[] cellFill = new int[CELLS_PER_SIDE * CELLS_PER_SIDE]; //scratch for filling cellItems
+
+	/**
+	 * Takes a new snapshot of every live enemy in the pool.
+	 *
+	 * @param enemies the pool to take the snapshot of
+	 */
+	public void rebuild(EnemyPool enemies) {
+		if(slots.length < enemies.size())
+			grow(enemies.size());
+
+		size = 0;
+		Arrays.fill(cellStart, 0);
+		for(int slot = 0; slot < enemies.getSlotLimit(); slot++) {
+			if(!enemies.isAlive(slot))
+				continue;
+			long loc = enemies.getPosition(slot);
+			slots[size] = slot;
+			xs[size] = Path.packedX(loc);
+			ys[size] = Path.packedY(loc);
+			progress[size] = enemies.getProgress(slot);
+			health[size] = enemies.getHealth(slot);
+			progressKeys[size] = ((long)(Math.max(0, Math.min(progress[size], 1.0)) * PROGRESS_SCALE) << INDEX_BITS) | size;
+			cellStart[cellOf(xs[size], ys[size]) + 1]++;
+			size++;
+		}
+
+		//sort by progress, highest last
+		Arrays.sort(progressKeys, 0, size);
+
+		//counting sort into the cells
+		for(int c = 0; c < cellFill.length; c++)
+			cellStart[c + 1] += cellStart[c];
+		System.arraycopy(cellStart, 0, cellFill, 0, cellFill.length);
+		for(int i = 0; i < size; i++)
+			cellItems[cellFill[cellOf(xs[i], ys[i])]++] = i;
+	}
+
+	/**
+	 * Picks a target for a tower.
+	 *
+	 * @param strategy how to pick the target
+	 * @param x the x position of the tower
+	 * @param y the y position of the tower
+	 * @param range how far the tower can reach in pixels, 0 or less is the whole map
+	 * @return the snapshot index of the target, or -1 if there is none
+	 */
+	public int select(TargetingStrategy strategy, int x, int y, int range) {
+		if(size == 0)
+			return -1;
+		return strategy.select(this, x, y, range);
+	}
+
+	/**
+	 * Returns the amount of enemies in the snapshot.
+	 *
+	 * @return the amount of enemies in the snapshot
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the EnemyPool slot of an enemy in the snapshot.
+	 *
+	 * @param i the snapshot index
+	 * @return the EnemyPool slot
+	 */
+	public int getSlot(int i) {
+		return slots[i];
+	}
+
+	/**
+	 * Returns the x position on the path of an enemy in the snapshot, without drawing offset.
+	 *
+	 * @param i the snapshot index
+	 * @return the x position
+	 */
+	public int getX(int i) {
+		return xs[i];
+	}
+
+	/**
+	 * Returns the y position on the path of an enemy in the snapshot, without drawing offset.
+	 *
+	 * @param i the snapshot index
+	 * @return the y position
+	 */
+	public int getY(int i) {
+		return ys[i];
+	}
+
+	/**
+	 * Returns the percentage across the path of an enemy in the snapshot.
+	 *
+	 * @param i the snapshot index
+	 * @return the percentage across the path
+	 */
+	public double getProgress(int i) {
+		return progress[i];
+	}
+
+	/**
+	 * Returns the health of an enemy in the snapshot.
+	 *
+	 * @param i the snapshot index
+	 * @return the health
+	 */
+	public int getHealth(int i) {
+		return health[i];
+	}
+
+	/**
+	 * Returns the snapshot index of the enemy at the given rank by progress,
+	 * rank 0 being the enemy furthest along the path.
+	 *
+	 * @param rank the rank, from 0 to size() - 1
+	 * @return the snapshot index
+	 */
+	public int byProgress(int rank) {
+		return (int)(progressKeys[size - 1 - rank] & ((1L << INDEX_BITS) - 1));
+	}
+
+	/**
+	 * Returns the index of the first of the enemies in a cell, see cellEnd.
+	 *
+	 * @param cx the column of the cell
+	 * @param cy the row of the cell
+	 * @return the index of the first of the enemies in the cell
+	 */
+	int cellStart(int cx, int cy) {
+		return cellStart[cy * CELLS_PER_SIDE + cx];
+	}
+
+	/**
+	 * Returns one past the index of the last of the enemies in a cell.
+	 * The snapshot indexes of the enemies in a cell are cellItem(cellStart) to cellItem(cellEnd - 1).
+	 *
+	 * @param cx the column of the cell
+	 * @param cy the row of the cell
+	 * @return one past the index of the last of the enemies in the cell
+	 */
+	int cellEnd(int cx, int cy) {
+		return cellStart[cy * CELLS_PER_SIDE + cx + 1];
+	}
+
+	/**
+	 * Returns the snapshot index of an enemy stored in the cells.
+	 *
+	 * @param i an index between cellStart and cellEnd of a cell
+	 * @return the snapshot index
+	 */
+	int cellItem(int i) {
+		return cellItems[i];
+	}
+
+	/**
+	 * Returns the row or column of the cell containing a position, clamped to the field.
+	 *
+	 * @param pos an x or y position
+	 * @return the row or column of the cell
+	 */
+	static int cellCoordinate(int pos) {
+		if(pos < 0)
+			return 0;
+		int cell = pos / CELL_SIZE;
+		if(cell >= CELLS_PER_SIDE)
+			return CELLS_PER_SIDE - 1;
+		return cell;
+	}
+
+	private static int cellOf(int x, int y) {
+		return cellCoordinate(y) * CELLS_PER_SIDE + cellCoordinate(x);
+	}
+
+	private void grow(int needed) {
+		int capacity = Math.max(needed, slots.length * 2);
+		slots = Arrays.copyOf(slots, capacity);
+		xs = Arrays.copyOf(xs, capacity);
+		ys = Arrays.copyOf(ys, capacity);
+		progress = Arrays.copyOf(progress, capacity);
+		health = Arrays.copyOf(health, capacity);
+		progressKeys = Arrays.copyOf(progressKeys, capacity);
+		cellItems = Arrays.copyOf(cellItems, capacity);
+	}
+}
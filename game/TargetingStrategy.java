@@ -0,0 +1,23 @@
+package game;
+
+/**
+ * Decides which enemy a tower shoots at, given the TargetingIndex snapshot of the
+ * enemies for this tick. See Targeting for the standard strategies.
+ * 
+ * @author Kevin Cuellar
+ * @version 10/18/2026
+ */
+@FunctionalInterface
+public interface TargetingStrategy {
+	
+	/**
+	 * Picks a target. Only called when there is at least one enemy in the snapshot.
+	 * 
+	 * @param targets the snapshot of the enemies
+	 * @param x the x position of the tower
+	 * @param y the y position of the tower
+	 * @param range how far the tower can reach in pixels, 0 or less is the whole map
+	 * @return the snapshot index of the target, or -1 if there is none
+	 */
+	public int select(TargetingIndex targets, int x, int y, int range);
+}
@@ -0,0 +1,75 @@
+package game;
+
+import java.awt.Rectangle;
+import java.util.ArrayList;
+
+/**
+ * Collects everything a group of GameObjects wants to change in the shared game
+ * while they are being updated in parallel: new GameObjects, money and lives changes,
+ * and any other effect on shared objects. ParallelUpdater applies the buffers one
+ * after the other in a fixed order at the end of the update, so the outcome does not
+ * depend on which thread finished first.
+ * 
+ * While a buffer is bound to a thread, State sends addGameObject, addMoney, addLives,
+ * markDirty and defer from that thread into the buffer.
+ * 
+ * @author Kevin Cuellar
+ * @version 10/18/2026
+ */
+public class TickBuffer {
+	
+	private static final ThreadLocal<TickBuffer> current = new ThreadLocal<>();
+	
+	final ArrayList<GameObject> spawns = new ArrayList<>();
+	final ArrayList<Runnable> effects = new ArrayList<>();
+	int moneyChange;
+	int livesChange;
+	final Rectangle dirtyRegion = new Rectangle(); //empty when nothing is dirty
+	
+	/**
+	 * Returns the buffer bound to the calling thread.
+	 * 
+	 * @return the buffer bound to the calling thread, or null if the thread is not in a parallel update
+	 */
+	static TickBuffer current() {
+		return current.get();
+	}
+	
+	/**
+	 * Binds this buffer to the calling thread until unbind is called.
+	 */
+	void bind() {
+		current.set(this);
+	}
+	
+	/**
+	 * Stops sending changes from the calling thread into any buffer.
+	 */
+	static void unbind() {
+		current.remove();
+	}
+	
+	/**
+	 * Applies everything in this buffer to the State, then empties the buffer.
+	 * 
+	 * @param state the State to apply the changes to
+	 */
+	void applyTo(State state) {
+		for(int i = 0; i < spawns.size(); i++)
+			state.addGameObject(spawns.get(i));
+		if(moneyChange != 0)
+			state.addMoney(moneyChange);
+		if(livesChange != 0)
+			state.addLives(livesChange);
+		for(int i = 0; i < effects.size(); i++)
+			effects.get(i).run();
+		if(!dirtyRegion.isEmpty())
+			state.markDirty(dirtyRegion.x, dirtyRegion.y, dirtyRegion.width, dirtyRegion.height);
+		
+		spawns.clear();
+		effects.clear();
+		moneyChange = 0;
+		livesChange = 0;
+		dirtyRegion.setBounds(0, 0, 0, 0);
+	}
+}
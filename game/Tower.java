@@ -1,6 +1,5 @@
 package game;
 
-import java.awt.Graphics;
 
 /**
  * A tower is an object that gets taken from the TowerButton corresponding to it then
@@ -15,11 +14,16 @@ public abstract class Tower extends Clickable {
 	private static boolean currentTowerInUse; //whether or not A tower is following the cursor
 	protected boolean isMoving; //whether or not THIS tower is following the cursor
 	
+	private static final int DRAWN_WIDTH = 80; //big enough for every tower image
+	private static final int DRAWN_HEIGHT = 75;
+	
 	String imageFileName;
 	int range; //measured in pixels circle around tower 
 	int speed = 50; // how often (in millis) to send attack
 	int cost; //cost of the tower to initially purchase, then becomes cost of upgrades
 	int damage;
+	TargetingStrategy targeting = Targeting.FIRST; //which enemy to shoot at, for towers that aim at enemies
+	private final Runnable reindex = () -> control.getHitGrid().update(this); //made once, run after moving
 	
 	
 	/**
@@ -49,7 +53,7 @@ public abstract class Tower extends Clickable {
 		isVisible = true;
 		isMoving = true;
 		currentTowerInUse = true;
-		state.setMoney(state.getMoney() - cost);
+		state.addMoney(-cost);
 	}
 	
 	 /**
@@ -62,9 +66,9 @@ public abstract class Tower extends Clickable {
 	/**
 	 * called once Tower does its draw. DO NOT OVERRIDE TOWER'S DRAW METHOD
 	 * 
-	 * @param g the Graphics object to draw to
+	 * @param list the RenderList to record into
 	 */
-	public abstract void onDraw(Graphics g); //must have something or nothing will draw
+	public abstract void onDraw(RenderList list); //must have something or nothing will draw
 	
     /**
      * If the tower is currently not placed, will replace its
@@ -75,8 +79,14 @@ public abstract class Tower extends Clickable {
 	@Override
 	public void update(double timeElapsed) {
 		if(isMoving) {
-			bounds.posX = control.getMouseX() + bounds.offsetX;
-			bounds.posY = control.getMouseY() + bounds.offsetY;
+			int x = control.getMouseX() + bounds.offsetX;
+			int y = control.getMouseY() + bounds.offsetY;
+			if(x != bounds.posX || y != bounds.posY) {
+				bounds.posX = x;
+				bounds.posY = y;
+				state.defer(reindex); //the HitGrid is shared, so not during a parallel update
+			}
+			markDirty();
 		} else {
 			onUpdate(timeElapsed);
 		}
@@ -86,18 +96,59 @@ public abstract class Tower extends Clickable {
      * Draws the Tower onto the cursor or if its placed
      * will just stay in one spot.
      * 
-     * @param g the Graphics object to draw to
+     * @param list the RenderList to record into
      */
 	@Override
-	public void draw(Graphics g) {
+	public void draw(RenderList list) {
 		if(isMoving) {
-			g.drawImage(control.getImage(imageFileName), bounds.posX, bounds.posY, 75, 75, null);
+			list.drawImage(control.getSprite(imageFileName, 75, 75), bounds.posX, bounds.posY);
 		} else {
-			onDraw(g);
+			onDraw(list);
 		}
 		 
 	}
 	
+	/**
+	 * Puts this Tower down at a position without a click, like when a saved game is loaded.
+	 * 
+	 * @param x the x position of the Tower
+	 * @param y the y position of the Tower
+	 */
+	void place(int x, int y) {
+		bounds.posX = x;
+		bounds.posY = y;
+		isMoving = false;
+		currentTowerInUse = false;
+		control.getHitGrid().update(this);
+		markDirty();
+	}
+	
+	/**
+	 * Forgets the Tower held by the cursor, if there is one, so a new Tower can be made.
+	 * The held Tower itself has to be removed by the caller.
+	 */
+	static void dropHeldTower() {
+		currentTowerInUse = false;
+	}
+	
+	/**
+	 * Marks where this Tower is drawn, which can be bigger than its bounding box.
+	 */
+	@Override
+	protected void markDirty() {
+		state.markDirty(bounds.posX, bounds.posY, DRAWN_WIDTH, DRAWN_HEIGHT);
+	}
+	
+	/**
+	 * Towers only change shared things through the State, so they can be updated in parallel.
+	 * 
+	 * @return true
+	 */
+	@Override
+	public boolean canUpdateInParallel() {
+		return true;
+	}
+	
 	/**
 	 * Called when the cursor clicks into this objects bounding box.
 	 * 
@@ -111,22 +162,19 @@ public abstract class Tower extends Clickable {
 		if(isMoving) {
 			isMoving = false;
 			currentTowerInUse = false;
+			markDirty();
 			
 			//destroys moving tower if it is outside the map or on path
 			if(control.isNearPath(mouseX, mouseY) == true || mouseX > 600 || mouseX < 0 || mouseY > 600 || mouseY < 0) {
 				isExpired = true;
-				state.setMoney(state.getMoney() + cost);
+				state.addMoney(cost);
 			}
 				
 		} else if(!currentTowerInUse) { //open upgrade menu for this tower
 			state.isUpgradeMenuOpen = true;
 			 
 			//remove tower buttons and other UgradeMenuButtons
-			for(GameObject go : state.getFrameObjects()) {
-				if(go instanceof TowerButton || go instanceof UpgradeMenuButton) {
-					go.isExpired = true;
-				}
-			}
+			control.getWidgets().expireAll();
 			
 			Bounds b1 = new Bounds(40, 180, 610, 140, 0, 0);
 			
@@ -1,7 +1,6 @@
 package game;
 
 import java.awt.Color;
-import java.awt.Graphics;
 
 /**
  * Draws the TowerButton over which towers are chosen onto the Menu.
@@ -16,6 +15,7 @@ public class TowerButton extends Clickable {
 	private static int imageInButtonSize = 40;
 	private static int arcSize = 20;
 	private static int offsetInImage = 5;
+	private static final Color BUTTON_COLOR = new Color(85, 87, 87);
 	
 	private String imageFileName;
 	
@@ -30,6 +30,16 @@ public class TowerButton extends Clickable {
 	public TowerButton(State state, Control control, Bounds bounds, String imageFileName) {
 		super(state, control, 1000, bounds, true);
 		this.imageFileName = imageFileName;
+		control.getWidgets().add(this);
+	}
+	
+	/**
+	 * Takes this TowerButton off the screen and out of the WidgetRegistry.
+	 */
+	@Override
+	protected void onRemoved() {
+		control.getWidgets().remove(this);
+		super.onRemoved();
 	}
 
 	 /**
@@ -46,13 +56,12 @@ public class TowerButton extends Clickable {
     /**
      * Draws the TowerButton onto the screen with the specified image.
      * 
-     * @param g the Graphics object to draw to
+     * @param list the RenderList to record into
      */
 	@Override
-	public void draw(Graphics g) {
-		g.setColor(new Color(85, 87, 87));
-		g.fillRoundRect(bounds.posX, bounds.posY, buttonSize, buttonSize, arcSize, arcSize);
-		g.drawImage(control.getImage(imageFileName), bounds.posX + offsetInImage, bounds.posY + offsetInImage, imageInButtonSize, imageInButtonSize, null); 
+	public void draw(RenderList list) {
+		list.fillRoundRect(BUTTON_COLOR, bounds.posX, bounds.posY, buttonSize, buttonSize, arcSize);
+		list.drawImage(control.getSprite(imageFileName, imageInButtonSize, imageInButtonSize), bounds.posX + offsetInImage, bounds.posY + offsetInImage); 
 	}
 
 	/**
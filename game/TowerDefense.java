@@ -1,9 +1,19 @@
 package game;
 
+import java.io.File;
+import java.io.IOException;
+
+import javax.swing.SwingUtilities;
+
 /**
  * Main thread of execution. Starts the tower defense game by creating a new 
  * Control object.
  * 
+ * Usage: java game.TowerDefense [--metrics[=file]] [journal]
+ * where --metrics shows the FrameMetrics on screen (and writes them to the file as CSV,
+ * or JSON if it ends with .json, when the program exits)
+ * and journal is a file to record every input into, to play back with Replay.
+ * 
  * @author Kevin Cuellar
  * @version 11/14/2022
  */
@@ -11,9 +21,41 @@ public class TowerDefense {
 
 	/**
 	* Entry point of the program.
+	* 
+	* @param args optionally the metrics option and the file to record inputs into
     */
 	public static void main(String[] args) {
-		new Control();
+		boolean showMetrics = false;
+		File metricsFile = null;
+		File journalFile = null;
+		for(String arg : args) {
+			if(arg.equals("--metrics")) {
+				showMetrics = true;
+			} else if(arg.startsWith("--metrics=") && arg.length() > "--metrics=".length()) {
+				showMetrics = true;
+				metricsFile = new File(arg.substring("--metrics=".length()));
+			} else if(arg.startsWith("--") || journalFile != null) {
+				System.out.println("Unknown argument " + arg);
+				System.out.println("Usage: java game.TowerDefense [--metrics[=file]] [journal]");
+				System.exit(2);
+			} else {
+				journalFile = new File(arg);
+			}
+		}
+		
+		Control control = journalFile != null ? new Control(journalFile) : new Control();
+		if(showMetrics)
+			SwingUtilities.invokeLater(() -> control.setMetricsOverlay(true)); //runs after the game is set up
+		if(metricsFile != null) {
+			File file = metricsFile;
+			Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+				try { //FrameMetrics is synchronized, so the game thread cannot record while this writes
+					control.getMetrics().export(file);
+				} catch(IOException e) {
+					e.printStackTrace();
+				}
+			}));
+		}
 	}
 
 }
@@ -2,7 +2,6 @@ package game;
 
 import java.awt.Color;
 import java.awt.Font;
-import java.awt.Graphics;
 
 /**
  * Draws an UpgradeMenuButton over which upgrades are chosen onto the Menu.
@@ -16,7 +15,10 @@ public class UpgradeMenuButton extends Clickable {
 	private static final int ARC_SIZE = 20;
 	private static final int OFFSET_X = 5;
 	private static final int OFFSET_Y = 26;
+	private static final Color BUTTON_COLOR = new Color(85, 87, 87);
+	private static final Font FONT = new Font("", Font.BOLD, 15);
 	private String text;
+	private String label; //text and cost, built again only when the cost changes
 	private int cost;
 	private int costIncrease;
 	
@@ -39,6 +41,17 @@ public class UpgradeMenuButton extends Clickable {
 		this.cost = cost;
 		this.costIncrease = costIncrease;
 		this.tower = tower;
+		label = text + "$" + cost;
+		control.getWidgets().add(this);
+	}
+	
+	/**
+	 * Takes this UpgradeMenuButton off the screen and out of the WidgetRegistry.
+	 */
+	@Override
+	protected void onRemoved() {
+		control.getWidgets().remove(this);
+		super.onRemoved();
 	}
 
 	 /**
@@ -55,16 +68,13 @@ public class UpgradeMenuButton extends Clickable {
     /**
      * Draws the TowerButton onto the screen with the specified image.
      * 
-     * @param g the Graphics object to draw to
+     * @param list the RenderList to record into
      */
 	@Override
-	public void draw(Graphics g) {
-		g.setColor(new Color(85, 87, 87));
-		g.fillRoundRect(bounds.posX, bounds.posY, bounds.width, bounds.height, ARC_SIZE, ARC_SIZE);
+	public void draw(RenderList list) {
+		list.fillRoundRect(BUTTON_COLOR, bounds.posX, bounds.posY, bounds.width, bounds.height, ARC_SIZE);
 		//draw text
-		g.setColor(Color.WHITE);
-		g.setFont(new Font("", Font.BOLD, 15));
-		g.drawString(text + "$" + cost, bounds.posX + OFFSET_X , bounds.posY + OFFSET_Y); 
+		list.drawString(label, FONT, Color.WHITE, bounds.posX + OFFSET_X , bounds.posY + OFFSET_Y); 
 	}
 	
 	/**
@@ -76,10 +86,12 @@ public class UpgradeMenuButton extends Clickable {
 	@Override
 	public boolean onClick(int mouseX, int mouseY) {
 		if(state.getMoney() - cost > 0) { 
-			state.setMoney(state.getMoney() - cost);
+			state.addMoney(-cost);
 			//increase cost
 			cost += costIncrease;
 			tower.cost += costIncrease;
+			label = text + "$" + cost;
+			markDirty(); //new cost
 			//make upgrade happen -- make it evident through the image too
 			//speed up or damage up depending on tower
 			if(tower instanceof SaltTower) {
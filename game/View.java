@@ -2,9 +2,10 @@ package game;
 
 import java.awt.Dimension;
 import java.awt.Graphics;
-import java.util.List;
-import java.util.PriorityQueue;
-import java.util.Queue;
+import java.awt.GraphicsConfiguration;
+import java.awt.Rectangle;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
 
 import javax.swing.JFrame;
 import javax.swing.JPanel;
@@ -14,54 +15,115 @@ import javax.swing.JPanel;
  * Contains the origin of the Graphics object from which all GameObjects
  * are drawn onto. 
  * 
+ * The View never touches the GameObjects, it draws the newest RenderList the
+ * simulation published to the RenderRing. What never changes (the STATIC layer)
+ * is drawn once into a cached image. After each published list only the area
+ * GameObjects marked dirty is drawn again, together with the area of the list
+ * before so that moved objects are erased.
+ * 
  * @author Kevin Cuellar
- * @version 11/14/2022
+ * @version 10/18/2026
  */
 public class View extends JPanel{
+	private static final int WIDTH = 800;
+	private static final int HEIGHT = 600;
+	
 	private Control control;
-	private State state;
+	private RenderRing frames;
+	private BufferedImage staticLayer; //null until the first paint
+	private int staticVersion; //of the RenderList the static layer was drawn from
+	private Rectangle dirty = new Rectangle();
+	private Rectangle lastDirty = new Rectangle(); //dirty area of the list before
+	private Rectangle repaintArea = new Rectangle();
 	
 	/**
-	 * Constructor that initializes the view window and
-	 * saves the game Control and State.
+	 * Constructor that sizes the view and saves the game Control and the RenderRing it draws from.
+	 * The view is not shown until openWindow is called, so it can also be
+	 * painted into an offscreen image.
 	 * 
 	 * @param control the Control object correlated to this View
-	 * @param state the State object correlated to this View
+	 * @param frames the RenderRing the game publishes its frames to
 	 */
-	public View(Control control, State state) {
+	public View(Control control, RenderRing frames) {
 		this.control = control;
-		this.state = state;
+		this.frames = frames;
 		
-		JFrame frame = new JFrame("Tower Defense");
-		frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
-		
-		Dimension d = new Dimension(800, 600);
+		Dimension d = new Dimension(WIDTH, HEIGHT);
 	    this.setMinimumSize(d);
 	    this.setPreferredSize(d);
 	    this.setMaximumSize(d);
-	     
+	}
+	
+	/**
+	 * Initializes the view window and shows this view inside of it.
+	 */
+	public void openWindow() {
+		JFrame frame = new JFrame("Tower Defense");
+		frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+		
 		frame.setContentPane(this);
 		
 		frame.pack();
 		frame.setVisible(true);
-		
 	}
 	
 	/**
-	 * Draws the GameObjects onto the screen.
+	 * Picks up the newest published RenderList, then asks Swing to draw the area it
+	 * marked dirty and the area of the list before (where moved objects were drawn).
+	 * While no new list is published the same area is drawn again, since enemies keep
+	 * moving in between their positions.
+	 */
+	public void repaintDirty() {
+		if(frames.pickUp()) {
+			Rectangle temp = lastDirty;
+			lastDirty = dirty;
+			dirty = temp;
+			dirty.setBounds(frames.getDrawing().getDirtyRegion());
+		} else if(frames.getDrawing().getAlpha(System.nanoTime()) >= 1.0) {
+			return; //nothing is moving any more until the next list
+		}
+		repaintArea.setBounds(lastDirty);
+		State.union(repaintArea, dirty.x, dirty.y, dirty.width, dirty.height);
+		if(!repaintArea.isEmpty())
+			repaint(repaintArea);
+	}
+	
+	/**
+	 * Draws the newest RenderList onto the screen, on top of the static layer.
+	 * Only the area inside the clip of g ends up being drawn.
 	 * 
 	 * @param g the Graphics object to draw to
 	 */
 	@Override
 	public void paint(Graphics g) {
-		Queue<GameObject> goq = new PriorityQueue<>(state.getFrameObjects());
-		int size = goq.size();
-		
-		//draw game objects
-		for(int i = 0; i < size; i++) {
-			GameObject go = goq.poll();
-			if (go.isVisible() && !go.isExpired())
-                go.draw(g);
+		long paintStart = System.nanoTime();
+		RenderList list = frames.getDrawing();
+		if(staticLayer == null || staticVersion != list.getStaticVersion()) {
+			staticLayer = createStaticLayer(list);
+			staticVersion = list.getStaticVersion();
 		}
+		g.drawImage(staticLayer, 0, 0, null);
+		
+		//the list is already in drawing order
+		list.paint(g, RenderList.DYNAMIC, list.getAlpha(System.nanoTime()));
+		control.getMetrics().record(FrameMetrics.PAINT, System.nanoTime() - paintStart);
+	}
+	
+	/**
+	 * Draws the STATIC layer of a RenderList into a new image in the display's format.
+	 * 
+	 * @param list the RenderList to draw
+	 * @return the new static layer
+	 */
+	private BufferedImage createStaticLayer(RenderList list) {
+		GraphicsConfiguration config = getGraphicsConfiguration();
+		BufferedImage layer = config != null 
+				? config.createCompatibleImage(WIDTH, HEIGHT, Transparency.OPAQUE)
+				: new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
+		
+		Graphics g = layer.getGraphics();
+		list.paint(g, RenderList.STATIC, 1.0);
+		g.dispose();
+		return layer;
 	}
 }
@@ -0,0 +1,57 @@
+package game;
+
+/**
+ * A Clock that never looks at the real time. Every tick lasts exactly the same amount 
+ * of game time and a tick is always due, so the game runs as fast as it is ticked.
+ * Used for headless simulations and replays.
+ * 
+ * @author Kevin Cuellar
+ * @version 10/18/2026
+ */
+public class VirtualClock implements Clock {
+	
+	private final double step; //seconds per tick
+	private double secondsSinceGameStart;
+	
+	/**
+	 * Constructor - creates a clock that runs ticks of the given length.
+	 * 
+	 * @param step the seconds each tick lasts
+	 */
+	public VirtualClock(double step) {
+		this.step = step;
+	}
+	
+	/**
+	 * Always one tick.
+	 * 
+	 * @return 1
+	 */
+	@Override
+	public int ticksDue() {
+		return 1;
+	}
+	
+	/**
+	 * Moves the game time forward by exactly one step.
+	 */
+	@Override
+	public void advance() {
+		secondsSinceGameStart += step;
+	}
+	
+	@Override
+	public double getElapsedTime() {
+		return step;
+	}
+	
+	@Override
+	public double getSecondsSinceGameStart() {
+		return secondsSinceGameStart;
+	}
+	
+	@Override
+	public void setSecondsSinceGameStart(double seconds) {
+		secondsSinceGameStart = seconds;
+	}
+}
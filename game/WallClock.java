@@ -0,0 +1,61 @@
+package game;
+
+/**
+ * A Clock that follows the real time. Every tick lasts however long it really took,
+ * so the game is not reproducible and dropped Timer events change what happens.
+ * 
+ * @author Kevin Cuellar
+ * @version 10/18/2026
+ */
+public class WallClock implements Clock {
+	
+    private double elapsedTime; //seconds since last frame
+    private long lastFrameStartTime;
+    private double secondsSinceGameStart;
+    private long gameStartTime;
+	
+	/**
+	 * Constructor - starts the clock at the current time.
+	 */
+	public WallClock() {
+    	gameStartTime = System.currentTimeMillis();
+    	lastFrameStartTime = gameStartTime;
+	}
+	
+	/**
+	 * Always one tick, however late it is.
+	 * 
+	 * @return 1
+	 */
+	@Override
+	public int ticksDue() {
+		return 1;
+	}
+	
+	/**
+	 * Calculates the elapsed time, and sets the last frame start time.
+	 */
+	@Override
+	public void advance() {
+		long now = System.currentTimeMillis();
+        elapsedTime = (now - lastFrameStartTime) / 1000.0;
+        secondsSinceGameStart = (now - gameStartTime) / 1000.0;
+        lastFrameStartTime = now;
+	}
+	
+	@Override
+	public double getElapsedTime() {
+		return elapsedTime;
+	}
+	
+	@Override
+	public double getSecondsSinceGameStart() {
+		return secondsSinceGameStart;
+	}
+	
+	@Override
+	public void setSecondsSinceGameStart(double seconds) {
+		secondsSinceGameStart = seconds;
+		gameStartTime = System.currentTimeMillis() - (long)(seconds * 1000);
+	}
+}
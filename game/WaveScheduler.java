@@ -0,0 +1,203 @@
+package game;
+
+import java.util.Arrays;
+
+/**
+ * Works out when every enemy of a WaveScript is sent, one wave ahead, and keeps the
+ * spawns in a queue sorted by time. Every tick only the spawns that are due are taken
+ * off the front of the queue, so a tick costs nothing when no enemy is due and no
+ * timing is worked out again.
+ *
+ * The queue is a few primitive columns that are reused, so it does not allocate once
+ * it is large enough for the biggest wave.
+ *
+ * @author Kevin Cuellar
+ * @version 10/18/2026
+ */
+public class WaveScheduler {
+
+	private static final EnemyType[] TYPES = EnemyType.values();
+
+	private final WaveScript script;
+
+	//spawns not sent yet, sorted by time, from head to size
+	private double[] times = new double[64]; //seconds from the start of the game
+	private int[] types = new int[64]; //EnemyType ordinals
+	private double[] speeds = new double[64];
+	private int[] waveNumbers = new int[64];
+	private int head;
+	private int size;
+
+	private int wavesPlanned; //waves put into the queue so far
+	private double nextWaveStart; //seconds from the start of the game
+	private int wavesStarted; //waves whose first spawn was sent
+
+	/**
+	 * Constructor - plans the first wave to start at the start of the game.
+	 *
+	 * @param script the waves to send
+	 */
+	public WaveScheduler(WaveScript script) {
+		this.script = script;
+	}
+
+	/**
+	 * Sends every enemy that is due, all in one batch.
+	 *
+	 * @param timeElapsed the time elapsed from the start of the game
+	 * @param enemies the pool to spawn the enemies into
+	 * @return the amount of enemies sent
+	 */
+	public int spawnDue(double timeElapsed, EnemyPool enemies) {
+		SpawnBatch batch = takeDue(timeElapsed);
+		int sent = batch.size();
+		if(sent > 0)
+			enemies.spawn(batch);
+		batch.release();
+		return sent;
+	}
+
+	/**
+	 * Takes every spawn that is due off the queue, however many became due since the last call.
+	 *
+	 * @param timeElapsed the time elapsed from the start of the game
+	 * @return a batch from the pool with the due enemies and how late each one is, release it once used
+	 */
+	public SpawnBatch takeDue(double timeElapsed) {
+		SpawnBatch batch = SpawnBatch.obtain();
+		while(head < size || planNextWave()) {
+			if(times[head] > timeElapsed)
+				break;
+			batch.add(TYPES[types[head]], speeds[head], timeElapsed - times[head]);
+			wavesStarted = Math.max(wavesStarted, waveNumbers[head] + 1);
+			head++;
+		}
+		return batch;
+	}
+
+	/**
+	 * Returns how many waves have started, 1 during the first wave.
+	 *
+	 * @return the amount of waves started
+	 */
+	public int getWavesStarted() {
+		return wavesStarted;
+	}
+
+	/**
+	 * Returns when the next enemy is sent.
+	 *
+	 * @return the seconds from the start of the game the next enemy is sent at
+	 */
+	public double getNextSpawnTime() {
+		if(head == size)
+			planNextWave();
+		return head < size ? times[head] : Double.MAX_VALUE;
+	}
+
+	/**
+	 * Copies the spawns still in the queue and where the scheduler is in the script into a snapshot.
+	 *
+	 * @param s the snapshot to copy into
+	 */
+	void saveTo(GameSnapshot s) {
+		s.wavesPlanned = wavesPlanned;
+		s.wavesStarted = wavesStarted;
+		s.nextWaveStart = nextWaveStart;
+		s.spawnTimes = Arrays.copyOfRange(times, head, size);
+		s.spawnTypes = Arrays.copyOfRange(types, head, size);
+		s.spawnSpeeds = Arrays.copyOfRange(speeds, head, size);
+		s.spawnWaves = Arrays.copyOfRange(waveNumbers, head, size);
+	}
+
+	/**
+	 * Replaces the queue with the spawns in a snapshot and carries on in the script from there.
+	 *
+	 * @param s the snapshot to copy from
+	 */
+	void restoreFrom(GameSnapshot s) {
+		head = 0;
+		size = 0;
+		for(int i = 0; i < s.spawnTimes.length; i++)
+			add(s.spawnTimes[i], TYPES[s.spawnTypes[i]], s.spawnSpeeds[i], s.spawnWaves[i]);
+		wavesPlanned = s.wavesPlanned;
+		wavesStarted = s.wavesStarted;
+		nextWaveStart = s.nextWaveStart;
+	}
+
+	/**
+	 * Puts every spawn of the next wave into the queue.
+	 *
+	 * @return whether anything was put into the queue
+	 */
+	private boolean planNextWave() {
+		//drop the sent spawns so the queue does not keep growing
+		size -= head;
+		System.arraycopy(times, head, times, 0, size);
+		System.arraycopy(types, head, types, 0, size);
+		System.arraycopy(speeds, head, speeds, 0, size);
+		System.arraycopy(waveNumbers, head, waveNumbers, 0, size);
+		head = 0;
+
+		int first = size;
+		//waves without enemies are skipped, but only as many as there are in the script
+		for(int tries = 0; size == first && tries < script.getWaveCount(); tries++) {
+			int waveNumber = wavesPlanned++;
+			double start = nextWaveStart;
+			nextWaveStart += script.getSecondsPerRound() + script.getSecondsPerWait();
+			double difficulty = script.getDifficulty(waveNumber);
+
+			for(WaveScript.Group group : script.getGroups(waveNumber)) {
+				int amount = group.getAmount(waveNumber);
+				double spacing = script.getSecondsPerRound() / amount;
+				for(int i = 0; i < amount; i++)
+					add(start + spacing * i, group.type, group.getSpeed(difficulty), waveNumber);
+			}
+		}
+		if(size == first)
+			return false;
+		sortFrom(first);
+		return true;
+	}
+
+	private void add(double time, EnemyType type, double speed, int waveNumber) {
+		if(size == times.length) {
+			int capacity = times.length * 2;
+			times = Arrays.copyOf(times, capacity);
+			types = Arrays.copyOf(types, capacity);
+			speeds = Arrays.copyOf(speeds, capacity);
+			waveNumbers = Arrays.copyOf(waveNumbers, capacity);
+		}
+		times[size] = time;
+		types[size] = type.ordinal();
+		speeds[size] = speed;
+		waveNumbers[size] = waveNumber;
+		size++;
+	}
+
+	/**
+	 * Sorts the spawns from the given index on by time. Each group is in order already
+	 * and waves are short, so an insertion sort is enough. Groups listed first go first
+	 * when two spawns are at the same time.
+	 */
+	private void sortFrom(int first) {
+		for(int i = first + 1; i < size; i++) {
+			double time = times[i];
+			int type = types[i];
+			double speed = speeds[i];
+			int waveNumber = waveNumbers[i];
+			int j = i - 1;
+			while(j >= first && times[j] > time) {
+				times[j + 1] = times[j];
+				types[j + 1] = types[j];
+				speeds[j + 1] = speeds[j];
+				waveNumbers[j + 1] = waveNumbers[j];
+				j--;
+			}
+			times[j + 1] = time;
+			types[j + 1] = type;
+			speeds[j + 1] = speed;
+			waveNumbers[j + 1] = waveNumber;
+		}
+	}
+}
@@ -0,0 +1,194 @@
+package game;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Locale;
+
+/**
+ * The waves of enemies a game sends, read from a text file so they can be tuned
+ * without compiling again. Waves are sent in order and start again from the top after
+ * the last one, every time a bit harder.
+ *
+ * The file is made of lines like these, anything after a # is ignored:
+ * <pre>
+ * round 4                 seconds every wave lasts
+ * wait 3                  seconds between waves
+ * difficulty 0.01 0.01    difficulty of the first wave, and how much it goes up every wave
+ * wave                    starts a new wave
+ * SNAIL 5 0.5 0.025       type, amount, amount added every wave, speed
+ * TURBO 1 0 0.225 1.5     ... and optionally speed added per point of difficulty
+ * </pre>
+ * Every group of a wave is spread evenly over the round, groups of the same wave are sent
+ * at the same time. Amounts are rounded up, speeds are percentages of the longest way
+ * through the map per second like EnemyPool.spawn.
+ *
+ * @author Kevin Cuellar
+ * @version 10/18/2026
+ */
+public class WaveScript {
+
+	private double secondsPerRound = 4;
+	private double secondsPerWait = 3;
+	private double difficultyStart;
+	private double difficultyChange;
+	private ArrayList<Group[]> waves = new ArrayList<>();
+
+	/**
+	 * One kind of enemy sent during a wave.
+	 */
+	static class Group {
+		final EnemyType type;
+		final double amount;
+		final double amountChange; //added to the amount every wave
+		final double speed;
+		final double speedPerDifficulty;
+
+		Group(EnemyType type, double amount, double amountChange, double speed, double speedPerDifficulty) {
+			this.type = type;
+			this.amount = amount;
+			this.amountChange = amountChange;
+			this.speed = speed;
+			this.speedPerDifficulty = speedPerDifficulty;
+		}
+
+		/**
+		 * Returns how many enemies the group sends in the given wave.
+		 */
+		int getAmount(int waveNumber) {
+			return (int)Math.ceil(amount + amountChange * waveNumber);
+		}
+
+		/**
+		 * Returns how fast the group's enemies are at the given difficulty.
+		 */
+		double getSpeed(double difficulty) {
+			return speed + speedPerDifficulty * difficulty;
+		}
+	}
+
+	/**
+	 * Reads a wave script from a stream, does not close it.
+	 *
+	 * @param in the stream to read from
+	 * @return the waves read
+	 * @throws IOException if the stream could not be read or a line is not understood
+	 */
+	public static WaveScript read(InputStream in) throws IOException {
+		WaveScript script = new WaveScript();
+		BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+		ArrayList<Group> wave = null;
+		int lineNumber = 0;
+		String line;
+		while((line = reader.readLine()) != null) {
+			lineNumber++;
+			int comment = line.indexOf('#');
+			if(comment >= 0)
+				line = line.substring(0, comment);
+			String[] words = line.trim().split("\\s+");
+			if(words[0].isEmpty())
+				continue;
+
+			try {
+				switch(words[0].toLowerCase(Locale.ROOT)) {
+				case "round":
+					script.secondsPerRound = positive(words, 1);
+					break;
+				case "wait":
+					script.secondsPerWait = notNegative(words, 1); //a negative wait would move the scheduler back in time
+					break;
+				case "difficulty":
+					script.difficultyStart = number(words, 1);
+					script.difficultyChange = number(words, 2);
+					break;
+				case "wave":
+					if(wave != null)
+						script.waves.add(wave.toArray(new Group[0]));
+					wave = new ArrayList<>();
+					break;
+				default:
+					if(wave == null)
+						throw new IllegalArgumentException("enemies before the first wave");
+					EnemyType type = EnemyType.valueOf(words[0].toUpperCase(Locale.ROOT));
+					double speedPerDifficulty = words.length > 4 ? number(words, 4) : 0;
+					wave.add(new Group(type, number(words, 1), number(words, 2), positive(words, 3), speedPerDifficulty));
+				}
+			} catch(IllegalArgumentException | IndexOutOfBoundsException e) {
+				throw new IOException("Line " + lineNumber + " of the wave script is not understood: " + line.trim(), e);
+			}
+		}
+		if(wave != null)
+			script.waves.add(wave.toArray(new Group[0]));
+		if(script.waves.isEmpty())
+			throw new IOException("The wave script has no waves");
+		return script;
+	}
+
+	/**
+	 * Returns how long every wave lasts.
+	 *
+	 * @return the seconds every wave lasts
+	 */
+	public double getSecondsPerRound() {
+		return secondsPerRound;
+	}
+
+	/**
+	 * Returns how long the pause between two waves is.
+	 *
+	 * @return the seconds between waves
+	 */
+	public double getSecondsPerWait() {
+		return secondsPerWait;
+	}
+
+	/**
+	 * Returns the difficulty of a wave, used to make enemies faster over time.
+	 *
+	 * @param waveNumber how many waves were sent before, counting every time the script starts again
+	 * @return the difficulty of the wave
+	 */
+	public double getDifficulty(int waveNumber) {
+		return difficultyStart + difficultyChange * waveNumber;
+	}
+
+	/**
+	 * Returns the amount of waves in the script, before it starts again from the top.
+	 *
+	 * @return the amount of waves
+	 */
+	public int getWaveCount() {
+		return waves.size();
+	}
+
+	/**
+	 * Returns the groups of enemies of a wave.
+	 *
+	 * @param waveNumber how many waves were sent before, counting every time the script starts again
+	 * @return the groups of the wave
+	 */
+	Group[] getGroups(int waveNumber) {
+		return waves.get(waveNumber % waves.size());
+	}
+
+	private static double number(String[] words, int index) {
+		return Double.parseDouble(words[index]);
+	}
+
+	private static double positive(String[] words, int index) {
+		double value = number(words, index);
+		if(!(value > 0))
+			throw new IllegalArgumentException(words[index] + " is not positive");
+		return value;
+	}
+
+	private static double notNegative(String[] words, int index) {
+		double value = number(words, index);
+		if(!(value >= 0))
+			throw new IllegalArgumentException(words[index] + " is negative");
+		return value;
+	}
+}
@@ -0,0 +1,56 @@
+package game;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The menu widgets currently on screen (TowerButtons and UpgradeMenuButtons), kept apart
+ * from the GameObjects of the frame. Switching between the towers menu and an upgrade
+ * menu expires every widget here instead of searching the whole frame for them.
+ *
+ * Widgets add themselves when they are made and remove themselves when they are removed
+ * from the State. Only used from the thread the game ticks on, outside of parallel updates.
+ *
+ * @author Kevin Cuellar
+ * @version 10/18/2026
+ */
+public class WidgetRegistry {
+
+	private List<Clickable> widgets = new ArrayList<>();
+
+	/**
+	 * Adds a widget.
+	 *
+	 * @param widget the widget to add
+	 */
+	public void add(Clickable widget) {
+		widgets.add(widget);
+	}
+
+	/**
+	 * Removes a widget, does nothing if it was not added.
+	 *
+	 * @param widget the widget to remove
+	 */
+	public void remove(Clickable widget) {
+		widgets.remove(widget);
+	}
+
+	/**
+	 * Expires every widget, they are removed from the State at the end of the frame
+	 * and then from this registry.
+	 */
+	public void expireAll() {
+		for(int i = 0; i < widgets.size(); i++)
+			widgets.get(i).isExpired = true;
+	}
+
+	/**
+	 * Returns the widgets, including expired ones that were not removed yet. Do not modify the list.
+	 *
+	 * @return the widgets
+	 */
+	public List<Clickable> getWidgets() {
+		return widgets;
+	}
+}
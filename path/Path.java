@@ -3,7 +3,23 @@ package path;
 import java.awt.Color;
 import java.awt.Graphics;
 import java.awt.Point;
-import java.util.ArrayList;
+import java.awt.Rectangle;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
 import java.util.Scanner;
 
 
@@ -12,19 +28,50 @@ import java.util.Scanner;
  * Each path Object has methods to retrieve values from the path 
  * and a method to add values to the path.
  * 
+ * Paths are saved either as text (see the Scanner constructor) or in a binary format
+ * that can be loaded straight from a memory mapped file, for big generated maps.
+ * The binary format is big endian: the int BINARY_MAGIC, the int BINARY_VERSION,
+ * the int amount of points n, then n int x coordinates, n int y coordinates and
+ * n double cumulative lengths (the length of the path up to each point).
+ * 
  * @author Kevin Cuellar
- * @version 11/14/2022
+ * @version 10/18/2026
  */
 public class Path {
-	private ArrayList<Point> pointList;
+	public static final int BINARY_MAGIC = 0x50415448; //"PATH"
+	public static final int BINARY_VERSION = 1;
+	private static final int HEADER_BYTES = 12;
+	private static final int POINT_BYTES = Integer.BYTES + Integer.BYTES + Double.BYTES;
+	private static final int READ_CHUNK = 4096; //points, arrays read from a stream only grow as the points arrive
+	private static final double LENGTH_TOLERANCE = 1e-9; //relative, for checking stored cumulative lengths
+	
 	private static final int NEAR_AMOUNT = 15; //in pixels 
 	private static final int EXTENSION_AMOUNT = 5; //in pixels, the point further on the point formula
 	
+	//the points, arrays can be longer than count. cumulativeLengths[i] is the length of the path up to point i
+	private int count;
+	private int[] xs;
+	private int[] ys;
+	private double[] cumulativeLengths;
+	private SegmentGrid segments; //made on the first closestPointOnPath after the points change
+	
 	/**
     * Constructor - creates a path with no points.
     */
 	public Path() {
-		pointList = new ArrayList<>();
+		xs = new int[1];
+		ys = new int[1];
+		cumulativeLengths = new double[1];
+	}
+	
+	/**
+	 * Constructor - creates a path from already read (or computed) arrays, which are kept.
+	 */
+	private Path(int count, int[] xs, int[] ys, double[] cumulativeLengths) {
+		this.count = count;
+		this.xs = xs;
+		this.ys = ys;
+		this.cumulativeLengths = cumulativeLengths;
 	}
 	
 	 /**
@@ -38,12 +85,176 @@ public class Path {
      * @param in The Scanner object to read from
      */
 	public Path(Scanner in) {
-		pointList = new ArrayList<>();
+		this();
 		int pointAmount = in.nextInt();
+		for(int i = 0; i < pointAmount; i++)
+			add(in.nextInt(), in.nextInt());
+	}
+	
+	/**
+	 * Reads a path from a stream in either the text or the binary format, 
+	 * whichever the stream starts with. Reads through the stream once, does not close it.
+	 * 
+	 * @param in the stream to read from
+	 * @return the path read
+	 * @throws IOException if the stream could not be read or is not a path
+	 */
+	public static Path read(InputStream in) throws IOException {
+		BufferedInputStream buffered = new BufferedInputStream(in);
+		buffered.mark(4);
+		DataInputStream data = new DataInputStream(buffered);
+		boolean isBinary;
+		try {
+			isBinary = data.readInt() == BINARY_MAGIC;
+		} catch(EOFException e) {
+			isBinary = false; //too short to be binary
+		}
+		buffered.reset();
+		
+		if(isBinary)
+			return readBinary(buffered);
+		try {
+			return new Path(new Scanner(buffered));
+		} catch(RuntimeException e) {
+			throw new IOException("Not a path", e);
+		}
+	}
+	
+	/**
+	 * Reads a path in the binary format from a stream, does not close it.
+	 * 
+	 * @param in the stream to read from
+	 * @return the path read
+	 * @throws IOException if the stream could not be read or is not a binary path of a known version, or its lengths do not match its points
+	 */
+	public static Path readBinary(InputStream in) throws IOException {
+		DataInputStream data = new DataInputStream(in instanceof BufferedInputStream ? in : new BufferedInputStream(in));
+		int pointAmount = readHeader(data.readInt(), data.readInt(), data.readInt());
+		
+		//the header can claim any amount, so only allocate for points that were actually there
+		int[] xs = new int[Math.max(Math.min(pointAmount, READ_CHUNK), 1)];
 		for(int i = 0; i < pointAmount; i++) {
-			Point p = new Point(in.nextInt(), in.nextInt());
-			pointList.add(p);
+			if(i == xs.length)
+				xs = Arrays.copyOf(xs, (int)Math.min(pointAmount, 2L * i));
+			xs[i] = data.readInt();
 		}
+		int[] ys = new int[xs.length];
+		for(int i = 0; i < pointAmount; i++)
+			ys[i] = data.readInt();
+		double[] lengths = new double[xs.length];
+		for(int i = 0; i < pointAmount; i++)
+			lengths[i] = data.readDouble();
+		checkLengths(pointAmount, xs, ys, lengths);
+		return new Path(pointAmount, xs, ys, lengths);
+	}
+	
+	/**
+	 * Loads a path from a file in either format. A binary file is memory mapped and its
+	 * arrays are copied out in bulk, without going through a stream.
+	 * 
+	 * @param file the file to load
+	 * @return the path loaded
+	 * @throws IOException if the file could not be read or is not a path, or is a binary path of the wrong size or with lengths that do not match its points
+	 */
+	public static Path load(File file) throws IOException {
+		try(FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			long size = channel.size();
+			ByteBuffer start = ByteBuffer.allocate(4);
+			boolean isBinary = size >= HEADER_BYTES && channel.read(start, 0) == 4 && start.getInt(0) == BINARY_MAGIC;
+			if(!isBinary) {
+				try(InputStream in = Channels.newInputStream(channel.position(0))) {
+					return read(in);
+				}
+			}
+			
+			ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+			if(channel.read(header, 0) != HEADER_BYTES)
+				throw new IOException(file + " is cut off");
+			int pointAmount = readHeader(header.getInt(0), header.getInt(4), header.getInt(8));
+			if(HEADER_BYTES + (long)pointAmount * POINT_BYTES != size)
+				throw new IOException(file + " is " + size + " bytes, but should be "
+						+ (HEADER_BYTES + (long)pointAmount * POINT_BYTES) + " for " + pointAmount + " points");
+			
+			MappedByteBuffer map;
+			try {
+				map = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+			} catch(IllegalArgumentException e) {
+				throw new IOException(file + " is too big to map", e);
+			}
+			//the size matches, so every offset below fits in the mapped int range
+			int[] xs = new int[Math.max(pointAmount, 1)];
+			int[] ys = new int[Math.max(pointAmount, 1)];
+			double[] lengths = new double[Math.max(pointAmount, 1)];
+			map.position(HEADER_BYTES);
+			map.asIntBuffer().get(xs, 0, pointAmount);
+			map.position(HEADER_BYTES + pointAmount * Integer.BYTES);
+			map.asIntBuffer().get(ys, 0, pointAmount);
+			map.position(HEADER_BYTES + pointAmount * 2 * Integer.BYTES);
+			map.asDoubleBuffer().get(lengths, 0, pointAmount);
+			checkLengths(pointAmount, xs, ys, lengths);
+			return new Path(pointAmount, xs, ys, lengths);
+		}
+	}
+	
+	/**
+	 * Checks the header of the binary format.
+	 * 
+	 * @return the amount of points
+	 */
+	private static int readHeader(int magic, int version, int pointAmount) throws IOException {
+		if(magic != BINARY_MAGIC)
+			throw new IOException("Not a binary path");
+		if(version != BINARY_VERSION)
+			throw new IOException("Unknown binary path version " + version);
+		if(pointAmount < 0)
+			throw new IOException("Negative amount of points " + pointAmount);
+		return pointAmount;
+	}
+	
+	/**
+	 * Checks that stored cumulative lengths start at 0 and add up the distances between the points,
+	 * so a corrupt file cannot make segment searches silently return wrong positions.
+	 */
+	private static void checkLengths(int count, int[] xs, int[] ys, double[] lengths) throws IOException {
+		if(count > 0 && lengths[0] != 0)
+			throw new IOException("The first cumulative length is " + lengths[0] + " instead of 0");
+		for(int i = 1; i < count; i++) {
+			double expected = lengths[i - 1] + distanceFormula(xs[i - 1], ys[i - 1], xs[i], ys[i]);
+			if(!(Math.abs(lengths[i] - expected) <= LENGTH_TOLERANCE * Math.max(1, expected)))
+				throw new IOException("Cumulative length " + i + " is " + lengths[i] + " instead of " + expected);
+		}
+	}
+	
+	/**
+	 * Writes this path in the binary format, does not close the stream.
+	 * 
+	 * @param out the stream to write to
+	 * @throws IOException if the stream could not be written to
+	 */
+	public void writeBinary(OutputStream out) throws IOException {
+		DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+		data.writeInt(BINARY_MAGIC);
+		data.writeInt(BINARY_VERSION);
+		data.writeInt(count);
+		for(int i = 0; i < count; i++)
+			data.writeInt(xs[i]);
+		for(int i = 0; i < count; i++)
+			data.writeInt(ys[i]);
+		for(int i = 0; i < count; i++)
+			data.writeDouble(cumulativeLengths[i]);
+		data.flush();
+	}
+	
+	/**
+	 * Writes this path in the text format, the same as toString, one point at a time.
+	 * 
+	 * @param out where to write to, like a Writer or a StringBuilder
+	 * @throws IOException if out could not be written to
+	 */
+	public void writeText(Appendable out) throws IOException {
+		out.append(Integer.toString(count));
+		for(int i = 0; i < count; i++)
+			out.append('\n').append(Integer.toString(xs[i])).append(' ').append(Integer.toString(ys[i]));
 	}
 	
 	 /**
@@ -52,7 +263,7 @@ public class Path {
      * @return The amount of points in the Path
      */
 	public int getPointCount() {
-		return pointList.size();
+		return count;
 	}
 	
 
@@ -64,7 +275,8 @@ public class Path {
      * @return The x value of the nth point in the Path
      */
 	public int getX(int n) {
-		return pointList.get(n).x;
+		checkPoint(n);
+		return xs[n];
 	}
 	
     /**
@@ -75,7 +287,8 @@ public class Path {
      * @return The y value of the nth point in the Path
      */
 	public int getY(int n) {
-		return pointList.get(n).y;
+		checkPoint(n);
+		return ys[n];
 	}
 	
     /**
@@ -85,7 +298,17 @@ public class Path {
      * @param y the y coordinate of the point to add.
      */
 	public void add(int x, int y) {
-		pointList.add(new Point(x,  y));
+		if(count == xs.length) {
+			xs = Arrays.copyOf(xs, count * 2);
+			ys = Arrays.copyOf(ys, count * 2);
+			cumulativeLengths = Arrays.copyOf(cumulativeLengths, count * 2);
+		}
+		xs[count] = x;
+		ys[count] = y;
+		if(count > 0)
+			cumulativeLengths[count] = cumulativeLengths[count - 1] + distanceFormula(xs[count - 1], ys[count - 1], x, y);
+		count++;
+		segments = null;
 	}
 	
     /**
@@ -96,12 +319,13 @@ public class Path {
      */
 	@Override
 	public String toString() {
-		int pointAmount = getPointCount();
-		String s = "" + pointAmount;
-		
-		for(int i = 0; i < pointAmount; i++)
-			s += "\n" + getX(i) + " " + getY(i);
-		return s;
+		StringBuilder s = new StringBuilder(count * 9 + 4);
+		try {
+			writeText(s);
+		} catch(IOException e) {
+			throw new UncheckedIOException(e); //does not happen, StringBuilder does not throw
+		}
+		return s.toString();
 	}
 	
 	/**
@@ -127,69 +351,221 @@ public class Path {
 	 * returned. If the percentage is greater than 100%, the final
 	 * position is returned.
 	 * 
-	 * Callers must not change the x or y coordinates of any returned
-	 * point object (or the caller could be changing the path).
+	 * The returned Point is a new object, so callers may change it freely.
+	 * Use convertToCoordinates(double, Point) in per frame code to avoid the allocation.
 	 * 
-	 * @param percentTraveled a distance along the path
+	 * @param percentage a distance along the path
 	 * @return the screen coordinate of this position along the path
 	 */
 	public Point convertToCoordinates(double percentage) {
-		if(percentage <= 0.0) {
-			return new Point(getX(0), getY(0)); //returns first point
+		return convertToCoordinates(percentage, new Point());
+	}
+	
+	/** 
+	 * Same as convertToCoordinates(double), but writes the location into the
+	 * given Point instead of creating a new one. Allocates nothing.
+	 * 
+	 * @param percentage a distance along the path
+	 * @param result the Point to write the screen coordinate into
+	 * @return result, for chaining
+	 */
+	public Point convertToCoordinates(double percentage, Point result) {
+		int last = getPointCount() - 1;
+		if(percentage <= 0.0 || last < 1) {
+			result.setLocation(xs[0], ys[0]); //first point
+			return result;
 		} else if(percentage >= 1.0) {
-			return new Point(getX(getPointCount()-1), getY(getPointCount()-1)); //returns last point
+			result.setLocation(xs[last], ys[last]); //last point
+			return result;
 		}
 		
-		/*
-		 * Calculate total length of path.
-		 * if path has < 2 points, will do some weird stuff but shouldn't crash.
-		 * This implementation sucks, we don't need to calculate total length or each segment length each time
-		 * unless the path is dynamic or something. 
-		 * Change later for more speed.
-		 */
-		double totalLength = 0;
-		double[] segmentLengths = new double[getPointCount()-1];
-		for(int i = 0; i < getPointCount() - 1; i++) {
-			segmentLengths[i] = Math.sqrt((Math.pow(getX(i+1) - getX(i), 2)) + (Math.pow(getY(i+1) - getY(i), 2))); //distance formula
-			totalLength += segmentLengths[i];
+		double lengthMoved = percentage * cumulativeLengths[last];
+		int i = segmentAt(lengthMoved);
+		
+		double segmentLength = cumulativeLengths[i + 1] - cumulativeLengths[i];
+		double percentageAcrossSegment = (lengthMoved - cumulativeLengths[i]) / segmentLength; 
+		double inverse = (1 - percentageAcrossSegment);
+		
+		result.x = (int)((inverse * xs[i]) + (percentageAcrossSegment * xs[i + 1]));
+		result.y = (int)((inverse * ys[i]) + (percentageAcrossSegment * ys[i + 1]));
+		return result;
+	}
+	
+	/** 
+	 * Same as convertToCoordinates(double), but returns the location packed into
+	 * a single long (x in the high 32 bits, y in the low 32 bits). Allocates nothing.
+	 * Use packedX and packedY to unpack the result.
+	 * 
+	 * @param percentage a distance along the path
+	 * @return the packed screen coordinate of this position along the path
+	 */
+	public long convertToPackedCoordinates(double percentage) {
+		int last = getPointCount() - 1;
+		if(percentage <= 0.0 || last < 1) {
+			return pack(xs[0], ys[0]);
+		} else if(percentage >= 1.0) {
+			return pack(xs[last], ys[last]);
 		}
 		
-		double lengthMoved = percentage * totalLength;
-		double usedDistance = 0;
-		int insideSegmentIndex = 0; //which segment are we in? index of segmentLengths
+		double lengthMoved = percentage * cumulativeLengths[last];
+		int i = segmentAt(lengthMoved);
+		
+		double segmentLength = cumulativeLengths[i + 1] - cumulativeLengths[i];
+		double percentageAcrossSegment = (lengthMoved - cumulativeLengths[i]) / segmentLength; 
+		double inverse = (1 - percentageAcrossSegment);
 		
-		//find segment lengthMoved is in and used distance within segment
-		for(int i = 0; i < segmentLengths.length; i++) {
-			if(lengthMoved < segmentLengths[i]) { //it is within this segment
-				insideSegmentIndex = i;
-				usedDistance = lengthMoved;
-				break;
+		return pack((int)((inverse * xs[i]) + (percentageAcrossSegment * xs[i + 1])),
+				(int)((inverse * ys[i]) + (percentageAcrossSegment * ys[i + 1])));
+	}
+	
+	/**
+	 * Returns the x coordinate of a location packed by convertToPackedCoordinates.
+	 * 
+	 * @param packed the packed location
+	 * @return the x coordinate
+	 */
+	public static int packedX(long packed) {
+		return (int)(packed >> 32);
+	}
+	
+	/**
+	 * Returns the y coordinate of a location packed by convertToPackedCoordinates.
+	 * 
+	 * @param packed the packed location
+	 * @return the y coordinate
+	 */
+	public static int packedY(long packed) {
+		return (int)packed;
+	}
+	
+	/**
+	 * Returns the total length of this path in pixels.
+	 * 
+	 * @return the total length of this path in pixels
+	 */
+	public double getTotalLength() {
+		return count > 0 ? cumulativeLengths[count - 1] : 0;
+	}
+	
+	/**
+	 * Sets the result to the smallest rectangle containing the part of this path
+	 * between two percentages. Allocates nothing.
+	 * 
+	 * @param fromPercentage where the part starts
+	 * @param toPercentage where the part ends, not less than fromPercentage
+	 * @param result the rectangle to write the bounds into
+	 * @return the result
+	 */
+	public Rectangle getBounds(double fromPercentage, double toPercentage, Rectangle result) {
+		long from = convertToPackedCoordinates(fromPercentage);
+		long to = convertToPackedCoordinates(toPercentage);
+		int minX = Math.min(packedX(from), packedX(to));
+		int maxX = Math.max(packedX(from), packedX(to));
+		int minY = Math.min(packedY(from), packedY(to));
+		int maxY = Math.max(packedY(from), packedY(to));
+		
+		//every corner of the path in between
+		int last = getPointCount() - 1;
+		if(last > 1 && toPercentage > 0.0 && fromPercentage < 1.0) {
+			double fromLength = fromPercentage * cumulativeLengths[last];
+			double toLength = toPercentage * cumulativeLengths[last];
+			int i = fromPercentage <= 0.0 ? 1 : segmentAt(fromLength) + 1;
+			for(; i < last && cumulativeLengths[i] < toLength; i++) {
+				minX = Math.min(minX, xs[i]);
+				maxX = Math.max(maxX, xs[i]);
+				minY = Math.min(minY, ys[i]);
+				maxY = Math.max(maxY, ys[i]);
 			}
-			 lengthMoved -= segmentLengths[i]; //converting lengthMoved to UsedDistance
 		}
 		
-		double percentageAcrossSegment = usedDistance / segmentLengths[insideSegmentIndex]; 
-		double inverse = (1 - percentageAcrossSegment);
+		result.setBounds(minX, minY, maxX - minX, maxY - minY);
+		return result;
+	}
+	
+	/**
+	 * Binary searches the cumulative length table for the segment that contains
+	 * the given distance. Zero length segments are never returned.
+	 * 
+	 * @param lengthMoved a distance along the path, strictly between 0 and the total length
+	 * @return the index of the first point of the segment
+	 */
+	private int segmentAt(double lengthMoved) {
+		//find the last point whose cumulative length is <= lengthMoved
+		int low = 0;
+		int high = getPointCount() - 2;
+		while(low < high) {
+			int mid = (low + high + 1) >>> 1;
+			if(cumulativeLengths[mid] <= lengthMoved)
+				low = mid;
+			else
+				high = mid - 1;
+		}
+		return low;
+	}
+	
+	private void checkPoint(int n) {
+		if(n < 0 || n >= count)
+			throw new IndexOutOfBoundsException("Point " + n + " of " + count);
+	}
+	
+	private static long pack(int x, int y) {
+		return ((long)x << 32) | (y & 0xFFFFFFFFL);
+	}
+	
+	/**
+	 * Returns the point of this path closest to the given position, and how far along
+	 * the path it is. Unlike closestPoint, the point can be anywhere on the path, not just 
+	 * one of its corners. Looks only at the parts of the path near the position, so it stays
+	 * fast on paths with thousands of points.
+	 * 
+	 * @param posX the x position
+	 * @param posY the y position
+	 * @param result the point to write the closest point on the path into
+	 * @return the percentage across the path of the closest point
+	 */
+	public double closestPointOnPath(int posX, int posY, Point result) {
+		if(count < 2) {
+			result.setLocation(xs[0], ys[0]);
+			return 0;
+		}
 		
-		int xResult = (int)((inverse * getX(insideSegmentIndex)) + (percentageAcrossSegment * getX(insideSegmentIndex+1)));
-		int yResult = (int)((inverse * getY(insideSegmentIndex)) + (percentageAcrossSegment * getY(insideSegmentIndex+1)));
+		SegmentGrid grid = segments;
+		if(grid == null) {
+			//only has final fields, so other threads see it whole even if two of them make it at once
+			grid = new SegmentGrid(xs, ys, count);
+			segments = grid;
+		}
+		int s = grid.closestSegment(posX, posY);
+		double t = grid.projection(s, posX, posY);
+		result.setLocation((int)Math.round(xs[s] + t * (xs[s + 1] - xs[s])), (int)Math.round(ys[s] + t * (ys[s + 1] - ys[s])));
 		
-		return new Point(xResult, yResult);
+		double total = getTotalLength();
+		if(total == 0)
+			return 0;
+		return (cumulativeLengths[s] + t * (cumulativeLengths[s + 1] - cumulativeLengths[s])) / total;
 	}
 	
+	/**
+	 * Returns the corner of this path closest to the given position,
+	 * see closestPointOnPath for any point on the path.
+	 * 
+	 * @param posX the x position
+	 * @param posY the y position
+	 * @return the closest of the points this path was made from
+	 */
 	public Point closestPoint(int posX, int posY) {
-		Point closestPoint = pointList.get(0);
-		double closestDistance = distanceFormula(posX, posY, closestPoint.x, closestPoint.y);
+		int closest = 0;
+		double closestDistance = distanceFormula(posX, posY, xs[0], ys[0]);
 		
-		for(Point p : pointList) {
-			double distance = distanceFormula(posX, posY, p.x, p.y);
+		for(int i = 0; i < count; i++) {
+			double distance = distanceFormula(posX, posY, xs[i], ys[i]);
 			if(distance <= closestDistance) {
 				closestDistance = distance;
-				closestPoint = p;
+				closest = i;
 			}
 		}
 		
-		return closestPoint;
+		return new Point(xs[closest], ys[closest]);
 	}
 	
 	public static double distanceFormula(double x1, double y1, double x2, double y2) {
@@ -9,10 +9,10 @@ import java.awt.event.MouseEvent;
 import java.awt.event.MouseListener;
 import java.awt.image.BufferedImage;
 import java.io.File;
-import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.PrintWriter;
-import java.util.Scanner;
 
 import javax.swing.JFileChooser;
 import javax.swing.JFrame;
@@ -39,6 +39,9 @@ public class PathEditor extends JPanel implements Runnable, MouseListener, Actio
 	private BufferedImage backdrop;
 	private Path path = new Path();
 	
+	private static final FileNameExtensionFilter TEXT_FILTER = new FileNameExtensionFilter("Text Files", "txt");
+	private static final FileNameExtensionFilter BINARY_FILTER = new FileNameExtensionFilter("Binary Paths", "path");
+	
 	public static void main(String[] args) {
 		SwingUtilities.invokeLater(new PathEditor());
 	}
@@ -175,14 +178,13 @@ public class PathEditor extends JPanel implements Runnable, MouseListener, Actio
 	}
 	
 	 /**
-	 * Asks user for a .txt file to read a Path from, scans it,
+	 * Asks user for a .txt or .path file to read a Path from, reads it,
 	 * replaces the current path with the new one, and paints it
      */
 	private void loadPath() {
 		//ask user for input file to load path from
 		JFileChooser chooser = new JFileChooser();
-		FileNameExtensionFilter filter = new FileNameExtensionFilter("Text Files", "txt");
-		chooser.setFileFilter(filter);
+		chooser.setFileFilter(new FileNameExtensionFilter("Paths", "txt", "path"));
 		int result = chooser.showOpenDialog(this);
 		
 		if(result != JFileChooser.APPROVE_OPTION) 
@@ -190,11 +192,11 @@ public class PathEditor extends JPanel implements Runnable, MouseListener, Actio
 		
 		File pathFile = chooser.getSelectedFile();
 		
-		//create new path using a Scanner object with the file
-		try(Scanner scan = new Scanner(pathFile);){
-			path = new Path(scan);
+		//create new path from the file, whichever format it is in
+		try {
+			path = Path.load(pathFile);
 		} 
-		catch (FileNotFoundException e) {
+		catch (IOException e) {
 			e.printStackTrace();
 		}
 		
@@ -211,24 +213,34 @@ public class PathEditor extends JPanel implements Runnable, MouseListener, Actio
 	
 	 /**
 	 * Asks user for a location to store a Path object, then creates the file (if not already existing)
-	 * and stores the Path object in it.
+	 * and stores the Path object in it, as text or binary depending on the chosen file type.
      */
 	private void savePath() {
 		//ask user for file path to save Path at
 		JFileChooser chooser = new JFileChooser();
-		FileNameExtensionFilter filter = new FileNameExtensionFilter("Text Files", "txt");
-		chooser.setFileFilter(filter);
+		chooser.addChoosableFileFilter(TEXT_FILTER);
+		chooser.addChoosableFileFilter(BINARY_FILTER);
+		chooser.setFileFilter(TEXT_FILTER);
 
 		int result = chooser.showSaveDialog(this);
 		
 		if(result != JFileChooser.APPROVE_OPTION) 
 			return; //no file has been loaded
 		
-		File savePathFile = new File(chooser.getSelectedFile().toString() + ".txt");
+		boolean isBinary = chooser.getFileFilter() == BINARY_FILTER;
+		String extension = isBinary ? ".path" : ".txt";
+		String name = chooser.getSelectedFile().toString();
+		File savePathFile = new File(name.endsWith(extension) ? name : name + extension);
 		
-		//put current path into the given file
-		try (PrintWriter out = new PrintWriter(savePathFile);) {
-			out.print(path.toString());
+		//put current path into the given file, one point at a time
+		try (OutputStream out = new FileOutputStream(savePathFile)) {
+			if(isBinary) {
+				path.writeBinary(out);
+			} else {
+				PrintWriter writer = new PrintWriter(out);
+				path.writeText(writer);
+				writer.flush();
+			}
 		} 
 		catch (IOException e) {
 			e.printStackTrace();
@@ -0,0 +1,178 @@
+package path;
+
+import java.awt.image.BufferedImage;
+
+/**
+ * Which pixels of the map are on or near the path, read once from a mask image where
+ * white pixels are free and every other pixel is blocked. Anything outside of the mask
+ * counts as blocked.
+ *
+ * Besides single pixels it answers whether a whole rectangle is free (from a summed-area
+ * table, the same cost for any size) and how far a pixel is from the nearest blocked one
+ * (from a distance field made with a 3-4 chamfer, within a few percent of the real distance).
+ *
+ * @author Kevin Cuellar
+ * @version 10/18/2026
+ */
+public class PathMask {
+
+	private static final int FREE_RGB = -1; //white
+	private static final int STRAIGHT = 3; //chamfer costs, a diagonal step is about 4/3 of a straight one
+	private static final int DIAGONAL = 4;
+	private static final int FAR = Integer.MAX_VALUE / 2; //no blocked pixel found (yet)
+
+	private final int width;
+	private final int height;
+	private final long[] blocked; //one bit per pixel, row by row
+	private final int[] blockedBefore; //summed-area table, blocked pixels above and left of (x, y), (width + 1) per row
+	private final int[] distances; //chamfer distance to the nearest blocked pixel, times STRAIGHT
+
+	/**
+	 * Constructor - reads the mask from an image.
+	 *
+	 * @param mask the mask image, white where towers can go
+	 */
+	public PathMask(BufferedImage mask) {
+		width = mask.getWidth();
+		height = mask.getHeight();
+		int[] rgb = mask.getRGB(0, 0, width, height, null, 0, width);
+
+		blocked = new long[(width * height + 63) / 64];
+		for(int i = 0; i < rgb.length; i++) {
+			if(rgb[i] != FREE_RGB)
+				blocked[i >>> 6] |= 1L << i;
+		}
+
+		blockedBefore = new int[(width + 1) * (height + 1)];
+		for(int y = 0; y < height; y++) {
+			int row = 0;
+			for(int x = 0; x < width; x++) {
+				row += rgb[y * width + x] != FREE_RGB ? 1 : 0;
+				blockedBefore[(y + 1) * (width + 1) + x + 1] = blockedBefore[y * (width + 1) + x + 1] + row;
+			}
+		}
+
+		distances = computeDistances();
+	}
+
+	/**
+	 * Returns whether the pixel is on or near the path, or outside of the mask.
+	 *
+	 * @param x the x position of the pixel
+	 * @param y the y position of the pixel
+	 * @return whether the pixel is blocked
+	 */
+	public boolean isBlocked(int x, int y) {
+		if(x < 0 || y < 0 || x >= width || y >= height)
+			return true;
+		int i = y * width + x;
+		return (blocked[i >>> 6] & (1L << i)) != 0;
+	}
+
+	/**
+	 * Returns whether every pixel of a rectangle is free, like the footprint of a tower.
+	 *
+	 * @param x the x position of the top left corner
+	 * @param y the y position of the top left corner
+	 * @param footprintWidth the width of the rectangle
+	 * @param footprintHeight the height of the rectangle
+	 * @return whether no pixel of the rectangle is blocked or outside of the mask
+	 */
+	public boolean isAreaClear(int x, int y, int footprintWidth, int footprintHeight) {
+		if(x < 0 || y < 0 || x + footprintWidth > width || y + footprintHeight > height)
+			return false;
+		return countBlocked(x, y, x + footprintWidth, y + footprintHeight) == 0;
+	}
+
+	/**
+	 * Returns the amount of blocked pixels in a rectangle of the mask.
+	 *
+	 * @param x1 the left edge, inclusive
+	 * @param y1 the top edge, inclusive
+	 * @param x2 the right edge, exclusive
+	 * @param y2 the bottom edge, exclusive
+	 * @return the amount of blocked pixels
+	 */
+	private int countBlocked(int x1, int y1, int x2, int y2) {
+		int w = width + 1;
+		return blockedBefore[y2 * w + x2] - blockedBefore[y1 * w + x2] - blockedBefore[y2 * w + x1] + blockedBefore[y1 * w + x1];
+	}
+
+	/**
+	 * Returns about how far the pixel is from the nearest blocked pixel, 0 if it is blocked itself.
+	 *
+	 * @param x the x position of the pixel
+	 * @param y the y position of the pixel
+	 * @return the distance in pixels, or Double.MAX_VALUE if nothing in the mask is blocked
+	 */
+	public double distanceToPath(int x, int y) {
+		if(x < 0 || y < 0 || x >= width || y >= height)
+			return 0;
+		int d = distances[y * width + x];
+		return d >= FAR ? Double.MAX_VALUE : d / (double)STRAIGHT;
+	}
+
+	/**
+	 * Returns the width of the mask.
+	 *
+	 * @return the width of the mask in pixels
+	 */
+	public int getWidth() {
+		return width;
+	}
+
+	/**
+	 * Returns the height of the mask.
+	 *
+	 * @return the height of the mask in pixels
+	 */
+	public int getHeight() {
+		return height;
+	}
+
+	/**
+	 * Makes the distance field with one pass down the mask and one pass back up.
+	 *
+	 * @return the chamfer distance of every pixel to the nearest blocked pixel
+	 */
+	private int[] computeDistances() {
+		int[] d = new int[width * height];
+		for(int y = 0; y < height; y++) {
+			for(int x = 0; x < width; x++) {
+				int i = y * width + x;
+				if(isBlocked(x, y)) {
+					d[i] = 0;
+					continue;
+				}
+				int best = FAR;
+				if(x > 0)
+					best = Math.min(best, d[i - 1] + STRAIGHT);
+				if(y > 0) {
+					best = Math.min(best, d[i - width] + STRAIGHT);
+					if(x > 0)
+						best = Math.min(best, d[i - width - 1] + DIAGONAL);
+					if(x < width - 1)
+						best = Math.min(best, d[i - width + 1] + DIAGONAL);
+				}
+				d[i] = Math.min(best, FAR);
+			}
+		}
+		for(int y = height - 1; y >= 0; y--) {
+			for(int x = width - 1; x >= 0; x--) {
+				int i = y * width + x;
+				int best = d[i];
+				if(x < width - 1)
+					best = Math.min(best, d[i + 1] + STRAIGHT);
+				if(y < height - 1) {
+					best = Math.min(best, d[i + width] + STRAIGHT);
+					if(x < width - 1)
+						best = Math.min(best, d[i + width + 1] + DIAGONAL);
+					if(x > 0)
+						best = Math.min(best, d[i + width - 1] + DIAGONAL);
+				}
+				d[i] = Math.min(best, FAR);
+			}
+		}
+		return d;
+	}
+}
@@ -0,0 +1,253 @@
+package path;
+
+import java.awt.Point;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * The lanes of a map and how they connect. Every route is a Path; when an enemy reaches
+ * the end of a route it carries on along one of the routes connected after it (a fork
+ * when there is more than one), and routes with nothing after them lead out of the map.
+ * Routes nothing leads into are where enemies come in.
+ *
+ * Enemies only keep which route they are on and how far along it they are in pixels,
+ * every length and position is looked up in the geometry shared here, so more lanes do
+ * not make any single enemy more expensive. Which branch an enemy takes is picked from a
+ * number it keeps (like the order it was spawned in), so a game always plays out the same.
+ *
+ * Routes can only be connected in ways that never loop back.
+ *
+ * @author Kevin Cuellar
+ * @version 10/18/2026
+ */
+public class RouteGraph {
+
+	private static final int[] NONE = new int[0];
+
+	private final ArrayList<Path> routes = new ArrayList<>();
+	private final ArrayList<int[]> successors = new ArrayList<>();
+
+	//precomputed again whenever a route is added or connected
+	private double[] lengths = new double[0];
+	private double[] startDistances = new double[0]; //longest way from where enemies come in to the start of each route
+	private int[] entries = NONE;
+	private double longestLength; //longest way through the whole map
+
+	/**
+	 * Creates a graph with a single route, like a map with one path.
+	 *
+	 * @param path the only route
+	 * @return the new graph
+	 */
+	public static RouteGraph single(Path path) {
+		RouteGraph graph = new RouteGraph();
+		graph.addRoute(path);
+		return graph;
+	}
+
+	/**
+	 * Adds a route that is not connected to anything yet.
+	 *
+	 * @param path the geometry of the route
+	 * @return the id of the new route
+	 */
+	public int addRoute(Path path) {
+		routes.add(path);
+		successors.add(NONE);
+		precompute();
+		return routes.size() - 1;
+	}
+
+	/**
+	 * Makes enemies reaching the end of one route carry on along another.
+	 * Connecting a route to several others makes a fork.
+	 *
+	 * @param from the id of the route that ends
+	 * @param to the id of the route that continues
+	 * @throws IllegalArgumentException if this would make enemies go around in a loop
+	 */
+	public void connect(int from, int to) {
+		if(from == to || leadsTo(to, from))
+			throw new IllegalArgumentException("Connecting route " + from + " to " + to + " makes a loop");
+		int[] next = successors.get(from);
+		next = Arrays.copyOf(next, next.length + 1);
+		next[next.length - 1] = to;
+		successors.set(from, next);
+		precompute();
+	}
+
+	/**
+	 * Returns the amount of routes.
+	 *
+	 * @return the amount of routes
+	 */
+	public int getRouteCount() {
+		return routes.size();
+	}
+
+	/**
+	 * Returns the geometry of a route.
+	 *
+	 * @param route the id of the route
+	 * @return the Path of the route
+	 */
+	public Path getRoute(int route) {
+		return routes.get(route);
+	}
+
+	/**
+	 * Returns the length of a route in pixels.
+	 *
+	 * @param route the id of the route
+	 * @return the length of the route
+	 */
+	public double getLength(int route) {
+		return lengths[route];
+	}
+
+	/**
+	 * Returns the distance from where enemies come in to the start of a route, going
+	 * the longest way if there are several.
+	 *
+	 * @param route the id of the route
+	 * @return the distance to the start of the route in pixels
+	 */
+	public double getStartDistance(int route) {
+		return startDistances[route];
+	}
+
+	/**
+	 * Returns the length of the longest way through the whole map.
+	 *
+	 * @return the longest way through the map in pixels
+	 */
+	public double getLongestLength() {
+		return longestLength;
+	}
+
+	/**
+	 * Returns whether enemies reaching the end of the route leave the map.
+	 *
+	 * @param route the id of the route
+	 * @return whether nothing is connected after the route
+	 */
+	public boolean isExit(int route) {
+		return successors.get(route).length == 0;
+	}
+
+	/**
+	 * Picks which route an enemy comes in on.
+	 *
+	 * @param seed a number the enemy keeps, like the order it was spawned in
+	 * @return the id of the route
+	 */
+	public int chooseEntry(int seed) {
+		return entries[pick(seed, -1, entries.length)];
+	}
+
+	/**
+	 * Picks which route an enemy carries on along after reaching the end of a route.
+	 * The same seed at the same fork always picks the same branch.
+	 *
+	 * @param route the id of the route that ended, must not be an exit
+	 * @param seed a number the enemy keeps, like the order it was spawned in
+	 * @return the id of the next route
+	 */
+	public int chooseNext(int route, int seed) {
+		int[] next = successors.get(route);
+		return next[pick(seed, route, next.length)];
+	}
+
+	/**
+	 * Returns the location at a distance along a route, packed like Path.convertToPackedCoordinates.
+	 *
+	 * @param route the id of the route
+	 * @param distance the distance along the route in pixels
+	 * @return the packed location
+	 */
+	public long getPackedCoordinates(int route, double distance) {
+		double length = lengths[route];
+		return routes.get(route).convertToPackedCoordinates(length > 0 ? distance / length : 0);
+	}
+
+	/**
+	 * Finds the point on any route closest to a position. Allocates nothing, every
+	 * route writes its closest point into result and only the best one is kept.
+	 *
+	 * @param posX the x position
+	 * @param posY the y position
+	 * @param result the point to write the closest point into
+	 * @return the id of the route the point is on
+	 */
+	public int closestPointOnRoutes(int posX, int posY, Point result) {
+		int bestRoute = 0;
+		long bestDistance = Long.MAX_VALUE;
+		int bestX = 0;
+		int bestY = 0;
+		for(int r = 0; r < routes.size(); r++) {
+			routes.get(r).closestPointOnPath(posX, posY, result);
+			long dx = result.x - posX;
+			long dy = result.y - posY;
+			if(dx * dx + dy * dy < bestDistance) {
+				bestDistance = dx * dx + dy * dy;
+				bestRoute = r;
+				bestX = result.x;
+				bestY = result.y;
+			}
+		}
+		result.setLocation(bestX, bestY);
+		return bestRoute;
+	}
+
+	/**
+	 * Spreads seeds evenly but not in order over the choices, differently at every fork.
+	 */
+	private static int pick(int seed, int route, int choices) {
+		int h = (seed + 1) * 0x9E3779B9 + route * 0x85EBCA6B;
+		h ^= h >>> 16;
+		return (h & Integer.MAX_VALUE) % choices;
+	}
+
+	private boolean leadsTo(int from, int to) {
+		if(from == to)
+			return true;
+		for(int next : successors.get(from))
+			if(leadsTo(next, to))
+				return true;
+		return false;
+	}
+
+	private void precompute() {
+		int n = routes.size();
+		double[] newLengths = new double[n];
+		boolean[] hasPredecessor = new boolean[n];
+		for(int r = 0; r < n; r++) {
+			newLengths[r] = routes.get(r).getTotalLength();
+			for(int next : successors.get(r))
+				hasPredecessor[next] = true;
+		}
+
+		int entryCount = 0;
+		int[] newEntries = new int[n];
+		for(int r = 0; r < n; r++)
+			if(!hasPredecessor[r])
+				newEntries[entryCount++] = r;
+
+		//routes only ever lead forward, so relaxing n times reaches every longest distance
+		double[] newStarts = new double[n];
+		for(int pass = 0; pass < n; pass++)
+			for(int r = 0; r < n; r++)
+				for(int next : successors.get(r))
+					newStarts[next] = Math.max(newStarts[next], newStarts[r] + newLengths[r]);
+
+		double longest = 0;
+		for(int r = 0; r < n; r++)
+			if(successors.get(r).length == 0)
+				longest = Math.max(longest, newStarts[r] + newLengths[r]);
+
+		lengths = newLengths;
+		startDistances = newStarts;
+		entries = Arrays.copyOf(newEntries, entryCount);
+		longestLength = longest;
+	}
+}
@@ -0,0 +1,160 @@
+package path;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * A uniform grid over a Path where every cell lists the segments passing near it,
+ * so the segment closest to a point can be found by looking at the cells around the
+ * point first and stopping as soon as no cell further away could hold anything closer.
+ *
+ * Segment i goes from point i to point i + 1 of the Path. Built once by the Path
+ * every time its points change, never changed afterwards.
+ *
+ * @author Kevin Cuellar
+ * @version 10/18/2026
+ */
+class SegmentGrid {
+
+	static final int CELL_SIZE = 32; //in pixels
+
+	private final int[] xs;
+	private final int[] ys;
+	private final int minX;
+	private final int minY;
+	private final int columns;
+	private final int rows;
+	private final int[] cellStart; //segments of cell c are cellSegments[cellStart[c]] to cellSegments[cellStart[c + 1] - 1]
+	private final int[] cellSegments;
+
+	/**
+	 * Constructor - puts every segment into the cells its bounding box covers.
+	 *
+	 * @param xs the x coordinates of the points of the Path
+	 * @param ys the y coordinates of the points of the Path
+	 * @param pointCount the amount of points in the Path, at least 2
+	 */
+	SegmentGrid(int[] xs, int[] ys, int pointCount) {
+		this.xs = xs;
+		this.ys = ys;
+
+		int lowX = Integer.MAX_VALUE, lowY = Integer.MAX_VALUE;
+		int highX = Integer.MIN_VALUE, highY = Integer.MIN_VALUE;
+		for(int i = 0; i < pointCount; i++) {
+			lowX = Math.min(lowX, xs[i]);
+			lowY = Math.min(lowY, ys[i]);
+			highX = Math.max(highX, xs[i]);
+			highY = Math.max(highY, ys[i]);
+		}
+		minX = lowX;
+		minY = lowY;
+		columns = (highX - lowX) / CELL_SIZE + 1;
+		rows = (highY - lowY) / CELL_SIZE + 1;
+
+		//count the segments of each cell, then fill them in
+		cellStart = new int[columns * rows + 1];
+		int segments = pointCount - 1;
+		for(int s = 0; s < segments; s++)
+			forEachCell(s, c -> cellStart[c + 1]++);
+		for(int c = 0; c < columns * rows; c++)
+			cellStart[c + 1] += cellStart[c];
+		cellSegments = new int[cellStart[columns * rows]];
+		int[] fill = Arrays.copyOf(cellStart, columns * rows);
+		for(int s = 0; s < segments; s++) {
+			int segment = s;
+			forEachCell(s, c -> cellSegments[fill[c]++] = segment);
+		}
+	}
+
+	/**
+	 * Returns the segment closest to a point. When two are just as close,
+	 * the one earlier on the Path is returned.
+	 *
+	 * @param px the x position of the point
+	 * @param py the y position of the point
+	 * @return the index of the closest segment
+	 */
+	int closestSegment(double px, double py) {
+		int cx = clamp((int)Math.floor((px - minX) / CELL_SIZE), columns);
+		int cy = clamp((int)Math.floor((py - minY) / CELL_SIZE), rows);
+
+		int best = -1;
+		double bestDistance = Double.MAX_VALUE; //squared
+		for(int r = 0; ; r++) {
+			//the cells exactly r cells away from (cx, cy)
+			for(int y = Math.max(cy - r, 0); y <= Math.min(cy + r, rows - 1); y++) {
+				boolean isEdgeRow = y == cy - r || y == cy + r;
+				for(int x = Math.max(cx - r, 0); x <= Math.min(cx + r, columns - 1); x++) {
+					if(!isEdgeRow && x > cx - r && x < cx + r) {
+						x = cx + r - 1; //skip the inside of the ring, it was looked at already
+						continue;
+					}
+					int c = y * columns + x;
+					for(int i = cellStart[c]; i < cellStart[c + 1]; i++) {
+						int s = cellSegments[i];
+						double d = distanceSquared(s, px, py);
+						if(d < bestDistance || (d == bestDistance && s < best)) {
+							bestDistance = d;
+							best = s;
+						}
+					}
+				}
+			}
+
+			//the closest any cell not looked at yet can be
+			double bound = Double.MAX_VALUE;
+			if(cx - r > 0)
+				bound = Math.min(bound, px - (minX + (cx - r) * CELL_SIZE));
+			if(cx + r < columns - 1)
+				bound = Math.min(bound, minX + (cx + r + 1) * CELL_SIZE - px);
+			if(cy - r > 0)
+				bound = Math.min(bound, py - (minY + (cy - r) * CELL_SIZE));
+			if(cy + r < rows - 1)
+				bound = Math.min(bound, minY + (cy + r + 1) * CELL_SIZE - py);
+			if(bound == Double.MAX_VALUE)
+				return best; //every cell was looked at
+			bound = Math.max(bound, 0);
+			if(best >= 0 && bestDistance <= bound * bound)
+				return best;
+		}
+	}
+
+	/**
+	 * Returns how far along a segment the point on it closest to the given point is.
+	 *
+	 * @param s the index of the segment
+	 * @param px the x position of the point
+	 * @param py the y position of the point
+	 * @return 0 at the start of the segment to 1 at the end
+	 */
+	double projection(int s, double px, double py) {
+		double dx = xs[s + 1] - xs[s];
+		double dy = ys[s + 1] - ys[s];
+		double lengthSquared = dx * dx + dy * dy;
+		if(lengthSquared == 0)
+			return 0;
+		double t = ((px - xs[s]) * dx + (py - ys[s]) * dy) / lengthSquared;
+		return Math.max(0, Math.min(t, 1));
+	}
+
+	private double distanceSquared(int s, double px, double py) {
+		double t = projection(s, px, py);
+		double dx = xs[s] + t * (xs[s + 1] - xs[s]) - px;
+		double dy = ys[s] + t * (ys[s + 1] - ys[s]) - py;
+		return dx * dx + dy * dy;
+	}
+
+	private void forEachCell(int s, IntConsumer action) {
+		int x1 = (Math.min(xs[s], xs[s + 1]) - minX) / CELL_SIZE;
+		int x2 = (Math.max(xs[s], xs[s + 1]) - minX) / CELL_SIZE;
+		int y1 = (Math.min(ys[s], ys[s + 1]) - minY) / CELL_SIZE;
+		int y2 = (Math.max(ys[s], ys[s + 1]) - minY) / CELL_SIZE;
+		for(int y = y1; y <= y2; y++)
+			for(int x = x1; x <= x2; x++)
+				action.accept(y * columns + x);
+	}
+
+	private static int clamp(int cell, int cells) {
+		return Math.max(0, Math.min(cell, cells - 1));
+	}
+}